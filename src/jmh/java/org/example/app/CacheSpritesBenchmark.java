@@ -0,0 +1,114 @@
+package org.example.app;
+
+import org.example.modelo.Juego;
+import org.example.modelo.entidad.AlmacenProyectiles;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de dibujar las naves y los proyectiles de un fotograma sobre una imagen de
+ * 800x600 en memoria, con la {@link CacheSprites} y rasterizando cada entidad como
+ * antes de tenerla. Hay {@code naves} enemigos al azar, la nave del jugador y una
+ * quinta parte de proyectiles, con los mismos tamaños y colores que el juego.
+ *
+ * <p>Está en el paquete de la vista porque la caché no es pública. Sin pantalla se
+ * mide el dibujo por software; con aceleración por hardware las cifras cambian.
+ *
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheSpritesBenchmark {
+    /** La misma semilla que el resto de los benchmarks */
+    private static final long SEMILLA = 42;
+
+    @Param({"55", "500", "5000"})
+    int naves;
+
+    private final SplittableRandom rng = new SplittableRandom(SEMILLA);
+    private final CacheSprites sprites = new CacheSprites();
+    private BufferedImage destino;
+    private Graphics2D g;
+    private int[] xs;
+    private int[] ys;
+    private int[] xsProyectiles;
+    private int[] ysProyectiles;
+    private boolean[] delJugador;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        destino = new BufferedImage(Juego.WIDTH, Juego.HEIGHT, BufferedImage.TYPE_INT_RGB);
+        g = destino.createGraphics();
+        xs = new int[naves];
+        ys = new int[naves];
+        for (int i = 0; i < naves; i++) {
+            xs[i] = rng.nextInt(Juego.WIDTH - 30);
+            ys[i] = rng.nextInt(Juego.HEIGHT - 20);
+        }
+        int proyectiles = naves / 5;
+        xsProyectiles = new int[proyectiles];
+        ysProyectiles = new int[proyectiles];
+        delJugador = new boolean[proyectiles];
+        for (int i = 0; i < proyectiles; i++) {
+            xsProyectiles[i] = rng.nextInt(Juego.WIDTH - AlmacenProyectiles.ANCHO);
+            ysProyectiles[i] = rng.nextInt(Juego.HEIGHT - AlmacenProyectiles.ALTO);
+            delJugador[i] = rng.nextBoolean();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void liberar() {
+        g.dispose();
+    }
+
+    @Benchmark
+    public BufferedImage conCache() {
+        limpiar();
+        sprites.prepararFotograma(g);
+        sprites.dibujar(g, CacheSprites.TipoSprite.NAVE_JUGADOR, Juego.WIDTH / 2 - 20, Juego.HEIGHT - 80, 40, 20, Color.green);
+        for (int i = 0; i < xs.length; i++) {
+            sprites.dibujar(g, CacheSprites.TipoSprite.NAVE_ENEMIGA, xs[i], ys[i], 30, 20, Color.red);
+        }
+        for (int i = 0; i < xsProyectiles.length; i++) {
+            sprites.dibujar(g, CacheSprites.TipoSprite.PROYECTIL, xsProyectiles[i], ysProyectiles[i],
+                            AlmacenProyectiles.ANCHO, AlmacenProyectiles.ALTO, delJugador[i] ? Color.cyan : Color.red);
+        }
+        return destino;
+    }
+
+    @Benchmark
+    public BufferedImage sinCache() {
+        limpiar();
+        rasterizar(CacheSprites.TipoSprite.NAVE_JUGADOR, Juego.WIDTH / 2 - 20, Juego.HEIGHT - 80, 40, 20, Color.green);
+        for (int i = 0; i < xs.length; i++) {
+            rasterizar(CacheSprites.TipoSprite.NAVE_ENEMIGA, xs[i], ys[i], 30, 20, Color.red);
+        }
+        for (int i = 0; i < xsProyectiles.length; i++) {
+            rasterizar(CacheSprites.TipoSprite.PROYECTIL, xsProyectiles[i], ysProyectiles[i],
+                       AlmacenProyectiles.ANCHO, AlmacenProyectiles.ALTO, delJugador[i] ? Color.cyan : Color.red);
+        }
+        return destino;
+    }
+
+    private void limpiar() {
+        g.setColor(Color.black);
+        g.fillRect(0, 0, Juego.WIDTH, Juego.HEIGHT);
+    }
+
+    /** Dibuja la entidad con polígonos y colores en el destino, como sin caché */
+    private void rasterizar(CacheSprites.TipoSprite tipo, int x, int y, int width, int height, Color color) {
+        int dy = y - tipo.margenSuperior;
+        g.translate(x, dy);
+        tipo.dibujar(g, width, height, color);
+        g.translate(-x, -dy);
+    }
+}
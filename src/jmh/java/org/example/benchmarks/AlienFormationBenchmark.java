@@ -0,0 +1,69 @@
+package org.example.benchmarks;
+
+import org.example.modelo.Nivel;
+import org.example.modelo.entidad.AlienFormation;
+import org.example.modelo.entidad.AlmacenProyectiles;
+import org.example.modelo.entidad.RejillaFormacion;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de un tick de {@link AlienFormation#update}: movimiento de la formación, rebotes
+ * y disparos. La cadencia se elige para mantener en vuelo la cantidad de proyectiles
+ * indicada, como en {@link JuegoBenchmark}.
+ *
+ * <p>Los disparos se acumulan en el almacén; cada {@value #TICKS_POR_RONDA} ticks se
+ * vacía y la formación vuelve a su origen, sin crear objetos.
+ *
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AlienFormationBenchmark {
+    private static final double DT = 1.0 / 60;
+    private static final int TICKS_POR_RONDA = 600;
+
+    @Param({"55", "1000", "10000"})
+    int enemigos;
+
+    @Param({"100", "1000", "5000"})
+    int proyectiles;
+
+    private RejillaFormacion formacion;
+    private AlienFormation alienFormation;
+    private Nivel nivel;
+    private AlmacenProyectiles almacen;
+    private int ticks;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        nivel = ConfiguracionBenchmark.nivelConEnemigos(enemigos,
+            ConfiguracionBenchmark.disparosParaMantener(proyectiles));
+        formacion = ConfiguracionBenchmark.crearFormacion(nivel);
+        alienFormation = new AlienFormation(new SplittableRandom(ConfiguracionBenchmark.SEMILLA));
+        alienFormation.resetForLevel(nivel);
+        // Lugar para todos los disparos de una ronda, para que el almacén no crezca al medir
+        double disparosPorSegundo = nivel.getDisparosPorSegundoPorEnemigo() * nivel.getFilas() * nivel.getColumnas();
+        almacen = new AlmacenProyectiles((int) (disparosPorSegundo * TICKS_POR_RONDA * DT * 2) + 16);
+    }
+
+    @Benchmark
+    public int update() {
+        if (++ticks == TICKS_POR_RONDA) {
+            ticks = 0;
+            almacen.limpiar();
+            formacion.reiniciar(80, 80);
+            alienFormation.resetForLevel(nivel);
+        }
+        formacion.guardarPosicionAnterior();
+        alienFormation.update(formacion, DT, almacen);
+        return almacen.getCantidad();
+    }
+}
@@ -0,0 +1,63 @@
+package org.example.benchmarks;
+
+import org.example.modelo.Juego;
+import org.example.modelo.Nivel;
+import org.example.modelo.entidad.MuroEnergia;
+import org.example.modelo.entidad.RejillaFormacion;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Piezas comunes de los benchmarks: formaciones de un tamaño dado y los muros
+ * estándar, armados con la misma geometría que usa {@link Juego}.
+ *
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ */
+final class ConfiguracionBenchmark {
+    /** Semilla fija para que todas las corridas midan los mismos datos */
+    static final long SEMILLA = 42;
+    /** Tiempo aproximado, en segundos, que un disparo enemigo tarda en salir de la pantalla */
+    static final double TIEMPO_VUELO_ENEMIGO = 2.2;
+
+    private ConfiguracionBenchmark() {
+    }
+
+    /**
+     * Nivel con al menos la cantidad de enemigos indicada, en una formación unas dos
+     * veces más ancha que alta (55 enemigos dan la clásica de 11 x 5).
+     *
+     * @param disparosPorSegundo Cadencia de toda la formación mientras está completa; se
+     *                           reparte entre los enemigos, y baja a medida que mueren
+     */
+    static Nivel nivelConEnemigos(int enemigos, double disparosPorSegundo) {
+        int filas = Math.max(1, (int) Math.round(Math.sqrt(enemigos / 2.2)));
+        int columnas = (enemigos + filas - 1) / filas;
+        return new Nivel(1, filas, columnas, 52, disparosPorSegundo / (filas * columnas));
+    }
+
+    /**
+     * Cadencia de disparo con la que, en régimen, hay en vuelo unos
+     * {@code proyectiles} disparos enemigos.
+     */
+    static double disparosParaMantener(int proyectiles) {
+        return proyectiles / TIEMPO_VUELO_ENEMIGO;
+    }
+
+    /** Formación ubicada y comprimida igual que en {@link Juego} */
+    static RejillaFormacion crearFormacion(Nivel nivel) {
+        double hGap = Math.min(40, (Juego.WIDTH - 160.0) / nivel.getColumnas());
+        double vGap = Math.min(30, (Juego.HEIGHT / 2.0 - 80) / nivel.getFilas());
+        return new RejillaFormacion(nivel.getColumnas(), nivel.getFilas(), 80, 80, hGap, vGap, 30, 20);
+    }
+
+    /** Los cuatro muros estándar, intactos */
+    static List<MuroEnergia> crearMuros() {
+        List<MuroEnergia> muros = new ArrayList<>();
+        for (int baseX : new int[] {140, 320, 500, 680}) {
+            muros.add(MuroEnergia.createBlock(baseX - 30, Juego.HEIGHT - 140, 60, 30, 3));
+        }
+        return muros;
+    }
+}
@@ -0,0 +1,335 @@
+package org.example.benchmarks;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import org.example.metricas.HistogramaLatencia;
+import org.example.modelo.Escenario;
+import org.example.modelo.Juego;
+import org.example.modelo.entrada.EstadoEntrada;
+
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Ejecuta escenarios completos de la simulación sin interfaz gráfica y reporta su
+ * rendimiento en JSON.
+ *
+ * <p>Cada escenario de {@link EscenariosEstres} se juega con la entrada de
+ * {@link GuionEntrada} durante los minutos simulados indicados, a paso fijo, después de
+ * un calentamiento en una partida aparte. Por cada tick se hace lo mismo que el hilo del
+ * juego: {@link Juego#update} y {@link Juego#obtenerEstadoParaRenderizado()}.
+ *
+ * <p>Por escenario se reporta:
+ * <ul>
+ *   <li>Ticks por segundo de reloj</li>
+ *   <li>Percentiles 50, 99 y 99,9 del tiempo de tick, y por separado de la
+ *       actualización y de la instantánea</li>
+ *   <li>Bytes asignados por tick y por segundo en el hilo que simula</li>
+ *   <li>Colecciones de basura durante la medición y la duración de cada una</li>
+ *   <li>Puntaje, nivel y reinicios al final: con la misma semilla deben coincidir entre
+ *       ejecuciones, y si no coinciden entre dos versiones es que cambió la simulación
+ *       y no sólo su velocidad</li>
+ * </ul>
+ *
+ * <p>Uso (ver {@link #USO}):
+ * <pre>
+ * mvn -Pjmh compile exec:exec@escenarios -Descenarios.args="--minutos 10 --salida base.json"
+ * </pre>
+ *
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ */
+public class EjecutorEscenarios {
+    static final String USO = "Opciones: [--minutos N] [--calentamiento SEGUNDOS] [--hz 60|120|240]"
+        + " [--semilla N] [--escenarios a,b,...] [--etiqueta TEXTO] [--salida ARCHIVO]";
+
+    private double minutos = 5;
+    private double segundosCalentamiento = 30;
+    private int ticksPorSegundo = 60;
+    private long semilla = ConfiguracionBenchmark.SEMILLA;
+    private String etiqueta = "";
+    private String salida;
+    private List<String> nombres = new ArrayList<>(EscenariosEstres.todos().keySet());
+
+    private final com.sun.management.ThreadMXBean hilos =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final MonitorGc monitorGc = new MonitorGc();
+
+    /**
+     * Ejecuta los escenarios pedidos y escribe el reporte en la salida estándar o en el
+     * archivo indicado. El avance se informa por la salida de errores.
+     *
+     * @param args Opciones, ver {@link #USO}
+     */
+    public static void main(String[] args) throws IOException {
+        EjecutorEscenarios ejecutor = new EjecutorEscenarios();
+        ejecutor.leerArgumentos(args);
+        String reporte = ejecutor.ejecutar();
+        if (ejecutor.salida == null) {
+            System.out.println(reporte);
+        } else {
+            Files.writeString(Path.of(ejecutor.salida), reporte);
+            System.err.println("Reporte escrito en " + ejecutor.salida);
+        }
+    }
+
+    private void leerArgumentos(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String opcion = args[i];
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Falta el valor de " + opcion + ". " + USO);
+            }
+            String valor = args[++i];
+            switch (opcion) {
+                case "--minutos" -> minutos = Double.parseDouble(valor);
+                case "--calentamiento" -> segundosCalentamiento = Double.parseDouble(valor);
+                case "--hz" -> ticksPorSegundo = Integer.parseInt(valor);
+                case "--semilla" -> semilla = Long.parseLong(valor);
+                case "--escenarios" -> nombres = Arrays.asList(valor.split(","));
+                case "--etiqueta" -> etiqueta = valor;
+                case "--salida" -> salida = valor;
+                default -> throw new IllegalArgumentException("Opción desconocida: " + opcion + ". " + USO);
+            }
+        }
+        if (minutos <= 0 || segundosCalentamiento < 0 || ticksPorSegundo <= 0) {
+            throw new IllegalArgumentException("Duraciones y frecuencia deben ser positivas. " + USO);
+        }
+        Map<String, Escenario> escenarios = EscenariosEstres.todos();
+        for (String nombre : nombres) {
+            if (!escenarios.containsKey(nombre)) {
+                throw new IllegalArgumentException("Escenario desconocido: " + nombre
+                    + ". Disponibles: " + escenarios.keySet());
+            }
+        }
+    }
+
+    private String ejecutar() {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n");
+        campo(json, 1, "etiqueta", texto(etiqueta));
+        campo(json, 1, "fecha", texto(Instant.now().toString()));
+        campo(json, 1, "java", texto(System.getProperty("java.version")));
+        campo(json, 1, "vm", texto(System.getProperty("java.vm.name")));
+        campo(json, 1, "procesadores", Runtime.getRuntime().availableProcessors());
+        campo(json, 1, "memoriaMaximaMb", Runtime.getRuntime().maxMemory() >> 20);
+        List<String> colectores = new ArrayList<>();
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            colectores.add(texto(gc.getName()));
+        }
+        campo(json, 1, "colectores", "[" + String.join(", ", colectores) + "]");
+        campo(json, 1, "semilla", semilla);
+        campo(json, 1, "ticksPorSegundoSimulados", ticksPorSegundo);
+        campo(json, 1, "minutosSimulados", minutos);
+        json.append("  \"escenarios\": [\n");
+
+        Map<String, Escenario> escenarios = EscenariosEstres.todos();
+        for (int i = 0; i < nombres.size(); i++) {
+            Escenario escenario = escenarios.get(nombres.get(i));
+            System.err.println("Escenario " + escenario.getNombre() + "...");
+            simular(escenario, Math.round(segundosCalentamiento * ticksPorSegundo), null);
+            Resultado resultado = new Resultado(escenario.getNombre());
+            simular(escenario, Math.round(minutos * 60 * ticksPorSegundo), resultado);
+            System.err.printf(Locale.ROOT, "  %.0f ticks/s, tick p99 %.3f ms%n",
+                resultado.getTicksPorSegundo(), resultado.tick.getPercentil(99) / 1e6);
+            resultado.escribir(json);
+            json.append(i + 1 < nombres.size() ? ",\n" : "\n");
+        }
+        json.append("  ]\n}");
+        return json.toString();
+    }
+
+    /**
+     * Juega un escenario durante la cantidad de ticks indicada, con una partida nueva
+     * creada con la semilla. Si la partida termina, se vuelve a empezar.
+     *
+     * @param resultado Donde registrar las mediciones, o null para sólo calentar
+     */
+    private void simular(Escenario escenario, long ticks, Resultado resultado) {
+        double dt = 1.0 / ticksPorSegundo;
+        GuionEntrada guion = new GuionEntrada(ticksPorSegundo);
+        EstadoEntrada entrada = new EstadoEntrada();
+        Juego juego = new Juego(semilla);
+        juego.inicializarPartida(escenario);
+        long tickPartida = 0;
+        int reinicios = 0;
+
+        if (resultado != null) {
+            monitorGc.comenzar();
+        }
+        long colecciones = contarColecciones();
+        long tiempoColecciones = tiempoColecciones();
+        long bytes = bytesAsignados();
+        long comienzo = System.nanoTime();
+
+        for (long i = 0; i < ticks; i++) {
+            if ("GAME_OVER".equals(juego.getEstado())) {
+                juego.inicializarPartida(escenario);
+                tickPartida = 0;
+                reinicios++;
+            }
+            guion.aplicar(tickPartida++, entrada);
+            long inicio = System.nanoTime();
+            juego.update(dt, entrada);
+            long actualizado = System.nanoTime();
+            juego.obtenerEstadoParaRenderizado();
+            long fin = System.nanoTime();
+            if (resultado != null) {
+                resultado.tick.registrar(fin - inicio);
+                resultado.actualizacion.registrar(actualizado - inicio);
+                resultado.instantanea.registrar(fin - actualizado);
+            }
+        }
+
+        if (resultado == null) return;
+        resultado.nanos = System.nanoTime() - comienzo;
+        resultado.bytes = bytes < 0 ? -1 : bytesAsignados() - bytes;
+        resultado.colecciones = contarColecciones() - colecciones;
+        resultado.milisColecciones = tiempoColecciones() - tiempoColecciones;
+        monitorGc.terminar();
+        resultado.ticks = ticks;
+        resultado.puntaje = juego.getPuntaje();
+        resultado.nivel = juego.getNivelActual();
+        resultado.reinicios = reinicios;
+        resultado.pausas = monitorGc.pausas;
+    }
+
+    /** Bytes asignados hasta ahora por este hilo, o -1 si la JVM no los mide */
+    private long bytesAsignados() {
+        return hilos.isThreadAllocatedMemorySupported() && hilos.isThreadAllocatedMemoryEnabled()
+            ? hilos.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    private static long contarColecciones() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionCount());
+        }
+        return total;
+    }
+
+    private static long tiempoColecciones() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionTime());
+        }
+        return total;
+    }
+
+    /**
+     * Mediciones de un escenario.
+     */
+    private static class Resultado {
+        final String nombre;
+        final HistogramaLatencia tick = new HistogramaLatencia("tick");
+        final HistogramaLatencia actualizacion = new HistogramaLatencia("actualizacion");
+        final HistogramaLatencia instantanea = new HistogramaLatencia("instantanea");
+        HistogramaLatencia pausas;
+        long ticks;
+        long nanos;
+        long bytes;
+        long colecciones;
+        long milisColecciones;
+        int puntaje;
+        int nivel;
+        int reinicios;
+
+        Resultado(String nombre) {
+            this.nombre = nombre;
+        }
+
+        double getTicksPorSegundo() {
+            return ticks * 1e9 / nanos;
+        }
+
+        void escribir(StringBuilder json) {
+            json.append("    {\n");
+            campo(json, 3, "nombre", texto(nombre));
+            campo(json, 3, "ticks", ticks);
+            campo(json, 3, "segundos", nanos / 1e9);
+            campo(json, 3, "ticksPorSegundo", getTicksPorSegundo());
+            campo(json, 3, "tick", percentiles(tick));
+            campo(json, 3, "actualizacion", percentiles(actualizacion));
+            campo(json, 3, "instantanea", percentiles(instantanea));
+            campo(json, 3, "bytesPorTick", bytes < 0 ? -1 : (double) bytes / ticks);
+            campo(json, 3, "mbAsignadosPorSegundo", bytes < 0 ? -1 : bytes * 1e9 / nanos / (1 << 20));
+            campo(json, 3, "gc", String.format(Locale.ROOT,
+                "{\"colecciones\": %d, \"totalMs\": %d, \"p99Ms\": %.3f, \"maxMs\": %.3f}",
+                colecciones, milisColecciones, pausas.getPercentil(99) / 1e6, pausas.getMaximo() / 1e6));
+            campo(json, 3, "puntaje", puntaje);
+            campo(json, 3, "nivel", nivel);
+            json.append("      \"reinicios\": ").append(reinicios).append("\n");
+            json.append("    }");
+        }
+
+        private static String percentiles(HistogramaLatencia histograma) {
+            return String.format(Locale.ROOT,
+                "{\"p50Ms\": %.4f, \"p99Ms\": %.4f, \"p999Ms\": %.4f, \"maxMs\": %.4f, \"promedioMs\": %.4f}",
+                histograma.getPercentil(50) / 1e6, histograma.getPercentil(99) / 1e6,
+                histograma.getPercentil(99.9) / 1e6, histograma.getMaximo() / 1e6,
+                histograma.getPromedio() / 1e6);
+        }
+    }
+
+    /**
+     * Registra la duración de cada colección de basura que la JVM notifica mientras se
+     * mide un escenario. Las notificaciones llegan en otro hilo, con un pequeño retraso.
+     */
+    private static class MonitorGc implements NotificationListener {
+        private volatile HistogramaLatencia pausas = new HistogramaLatencia("gc");
+        private volatile boolean activo;
+
+        MonitorGc() {
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                if (gc instanceof NotificationEmitter emisor) {
+                    emisor.addNotificationListener(this, null, null);
+                }
+            }
+        }
+
+        void comenzar() {
+            pausas = new HistogramaLatencia("gc");
+            activo = true;
+        }
+
+        void terminar() {
+            activo = false;
+        }
+
+        @Override
+        public void handleNotification(Notification notificacion, Object contexto) {
+            if (!activo || !GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION
+                    .equals(notificacion.getType())) {
+                return;
+            }
+            GarbageCollectionNotificationInfo info =
+                GarbageCollectionNotificationInfo.from((CompositeData) notificacion.getUserData());
+            pausas.registrar(info.getGcInfo().getDuration() * 1_000_000);
+        }
+    }
+
+    private static void campo(StringBuilder json, int sangria, String nombre, Object valor) {
+        json.append("  ".repeat(sangria)).append('"').append(nombre).append("\": ");
+        if (valor instanceof Double d) {
+            json.append(String.format(Locale.ROOT, "%.3f", d));
+        } else {
+            json.append(valor);
+        }
+        json.append(",\n");
+    }
+
+    private static String texto(String valor) {
+        return '"' + valor.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.benchmarks;
+
+import org.example.modelo.Escenario;
+import org.example.modelo.Nivel;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Escenarios de punta a punta que recorre {@link EjecutorEscenarios}. Cada uno carga una
+ * parte distinta de la simulación:
+ *
+ * <ul>
+ *   <li><b>clasico</b>: formación de 11 x 5 con la velocidad y la cadencia del quinto
+ *       nivel estándar, y 3 vidas (la partida se reinicia al perderlas)</li>
+ *   <li><b>lluvia</b>: oleadas de miles de disparos enemigos en vuelo a la vez</li>
+ *   <li><b>multitud</b>: formación de 10.000 enemigos</li>
+ *   <li><b>muros-erosionados</b>: formación clásica con los muros casi destruidos y
+ *       disparo intenso, que obliga a recorrer muchos bloques sueltos</li>
+ * </ul>
+ *
+ * <p>En los escenarios de estrés el jugador tiene vidas de sobra, para que la carga se
+ * mantenga durante toda la medición.
+ * Sus cadencias de disparo son las de la formación completa; como en el juego, bajan a
+ * medida que mueren enemigos.
+ *
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ */
+final class EscenariosEstres {
+    /** Vidas con que la partida no termina durante la medición */
+    private static final int VIDAS_INAGOTABLES = 1_000_000;
+
+    private EscenariosEstres() {
+    }
+
+    /**
+     * Obtiene todos los escenarios, en el orden en que se reportan.
+     *
+     * @return Escenarios indexados por nombre
+     */
+    static Map<String, Escenario> todos() {
+        Map<String, Escenario> escenarios = new LinkedHashMap<>();
+        agregar(escenarios, new Escenario("clasico", Nivel.paraNumero(5), 3, 0, 1.0));
+        agregar(escenarios, new Escenario("lluvia",
+            ConfiguracionBenchmark.nivelConEnemigos(55, ConfiguracionBenchmark.disparosParaMantener(4000)),
+            VIDAS_INAGOTABLES, 4000, 1.0));
+        agregar(escenarios, new Escenario("multitud",
+            ConfiguracionBenchmark.nivelConEnemigos(10_000, 3.0), VIDAS_INAGOTABLES, 0, 1.0));
+        agregar(escenarios, new Escenario("muros-erosionados",
+            ConfiguracionBenchmark.nivelConEnemigos(55, 40), VIDAS_INAGOTABLES, 200, 0.2));
+        return escenarios;
+    }
+
+    private static void agregar(Map<String, Escenario> escenarios, Escenario escenario) {
+        escenarios.put(escenario.getNombre(), escenario);
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.benchmarks;
+
+import org.example.modelo.entrada.Accion;
+import org.example.modelo.entrada.EstadoEntrada;
+
+/**
+ * Entrada del jugador guionada, que depende sólo del número de tick: la nave recorre la
+ * pantalla a derecha e izquierda con pausas y dispara en ráfagas. Con la misma semilla,
+ * dos ejecuciones simulan exactamente la misma partida.
+ *
+ * <p>Ciclo de 4 segundos: 1,5 s a la derecha, 1,5 s a la izquierda y 1 s quieta; el
+ * disparo se mantiene durante medio segundo de cada segundo.
+ *
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ */
+final class GuionEntrada {
+    private final int ticksPorSegundo;
+
+    /**
+     * @param ticksPorSegundo Frecuencia de la simulación, para expresar el guion en segundos
+     */
+    GuionEntrada(int ticksPorSegundo) {
+        this.ticksPorSegundo = ticksPorSegundo;
+    }
+
+    /**
+     * Establece en la entrada las acciones del tick indicado.
+     *
+     * @param tick Número de tick desde el comienzo de la partida
+     * @param entrada Estado de entrada que recibe el modelo
+     */
+    void aplicar(long tick, EstadoEntrada entrada) {
+        double segundos = (double) tick / ticksPorSegundo;
+        double enCiclo = segundos % 4.0;
+        entrada.establecer(Accion.DERECHA, enCiclo < 1.5);
+        entrada.establecer(Accion.IZQUIERDA, enCiclo >= 1.5 && enCiclo < 3.0);
+        entrada.establecer(Accion.DISPARAR, segundos % 1.0 < 0.5);
+    }
+}
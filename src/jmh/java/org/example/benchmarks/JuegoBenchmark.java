@@ -0,0 +1,81 @@
+package org.example.benchmarks;
+
+import org.example.modelo.Escenario;
+import org.example.modelo.EstadoJuegoDTO;
+import org.example.modelo.Juego;
+import org.example.modelo.entrada.EstadoEntrada;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de un tick completo ({@link Juego#update}) y de armar la instantánea para la
+ * vista ({@link Juego#obtenerEstadoParaRenderizado()}) en escenarios de distinto tamaño.
+ *
+ * <p>El jugador tiene vidas de sobra y no dispara, de modo que la partida no termina
+ * ni cambia de nivel y la cantidad de proyectiles se mantiene cerca de la indicada.
+ * Para que la formación no baje fuera de la pantalla, el escenario se vuelve a armar
+ * cada {@value #TICKS_POR_PARTIDA} ticks; ese costo queda repartido entre ellos (también
+ * en las cifras de {@code -prof gc}).
+ *
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JuegoBenchmark {
+    private static final double DT = 1.0 / 60;
+    /** Diez segundos simulados por partida */
+    private static final int TICKS_POR_PARTIDA = 600;
+    /** Ticks previos para llegar a la cantidad de proyectiles de régimen */
+    private static final int TICKS_PREVIOS = 120;
+
+    @Param({"55", "1000", "10000"})
+    int enemigos;
+
+    @Param({"100", "1000", "5000"})
+    int proyectiles;
+
+    @Param({"1.0", "0.3"})
+    double densidadMuros;
+
+    private Juego juego;
+    private Escenario escenario;
+    private final EstadoEntrada entrada = new EstadoEntrada();
+    private int ticks;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        escenario = new Escenario("benchmark",
+            ConfiguracionBenchmark.nivelConEnemigos(enemigos, ConfiguracionBenchmark.disparosParaMantener(proyectiles)),
+            Integer.MAX_VALUE, proyectiles, densidadMuros);
+        juego = new Juego(ConfiguracionBenchmark.SEMILLA);
+        comenzarPartida();
+    }
+
+    private void comenzarPartida() {
+        juego.inicializarPartida(escenario);
+        for (int i = 0; i < TICKS_PREVIOS; i++) {
+            juego.update(DT, entrada);
+        }
+        ticks = 0;
+    }
+
+    @Benchmark
+    public String update() {
+        if (++ticks == TICKS_POR_PARTIDA) {
+            comenzarPartida();
+        }
+        juego.update(DT, entrada);
+        return juego.getEstado();
+    }
+
+    @Benchmark
+    public EstadoJuegoDTO obtenerEstadoParaRenderizado() {
+        return juego.obtenerEstadoParaRenderizado();
+    }
+}
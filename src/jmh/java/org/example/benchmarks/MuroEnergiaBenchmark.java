@@ -0,0 +1,65 @@
+package org.example.benchmarks;
+
+import org.example.modelo.Juego;
+import org.example.modelo.entidad.AlmacenProyectiles;
+import org.example.modelo.entidad.MuroEnergia;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de {@link MuroEnergia#hit} con proyectiles que caen al azar sobre un muro
+ * estándar y su entorno, de modo que hay tanto impactos como fallos.
+ *
+ * <p>Para que la densidad del muro no se aleje de la indicada, se reconstruye en el
+ * lugar cada vez que recibió tantos impactos como una cuarta parte de sus bloques.
+ *
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MuroEnergiaBenchmark {
+    private static final int POSICIONES = 4096;
+
+    @Param({"1.0", "0.6", "0.3"})
+    double densidadMuros;
+
+    private MuroEnergia muro;
+    private final SplittableRandom rng = new SplittableRandom(ConfiguracionBenchmark.SEMILLA);
+    private final int[] xs = new int[POSICIONES];
+    private final int[] ys = new int[POSICIONES];
+    private int siguiente;
+    private int impactos;
+    private int impactosPorRonda;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        muro = ConfiguracionBenchmark.crearMuros().get(0);
+        muro.reconstruir(3, densidadMuros, rng);
+        impactosPorRonda = Math.max(1, (60 / MuroEnergia.CELDA) * (30 / MuroEnergia.CELDA) / 4);
+        int x0 = muro.getBounds().getX() - 10;
+        int y0 = muro.getBounds().getY() - 10;
+        for (int i = 0; i < POSICIONES; i++) {
+            xs[i] = x0 + rng.nextInt(muro.getBounds().getWidth() + 20);
+            ys[i] = y0 + rng.nextInt(muro.getBounds().getHeight() + 20);
+        }
+    }
+
+    @Benchmark
+    public boolean hit() {
+        int i = siguiente;
+        siguiente = (i + 1) & (POSICIONES - 1);
+        boolean impacto = muro.hit(xs[i], ys[i], AlmacenProyectiles.ANCHO, AlmacenProyectiles.ALTO);
+        if (impacto && ++impactos == impactosPorRonda) {
+            impactos = 0;
+            muro.reconstruir(3, densidadMuros, rng);
+        }
+        return impacto;
+    }
+}
@@ -0,0 +1,194 @@
+package org.example.benchmarks;
+
+import org.example.modelo.Escenario;
+import org.example.modelo.Juego;
+import org.example.modelo.entrada.EstadoEntrada;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Verifica que la simulación en régimen estable no asigne más memoria que la presupuestada.
+ *
+ * <p>Cada escenario de {@link EscenariosEstres} se calienta en una partida aparte, hasta
+ * que el compilador JIT haya optimizado los caminos calientes, y luego se juega con la
+ * entrada de {@link GuionEntrada}, midiendo con los contadores de asignación por hilo
+ * de la JVM los bytes de cada {@link Juego#update} y de cada
+ * {@link Juego#obtenerEstadoParaRenderizado()} por separado. Los primeros segundos de
+ * la partida medida no se cuentan: en ellos los arreglos del juego crecen, una sola
+ * vez, hasta el tamaño que necesita el escenario.
+ *
+ * <p>Los presupuestos son bytes por tick, en promedio, por escenario y camino, y se leen
+ * de un archivo de propiedades con claves {@code escenario.actualizacion} y
+ * {@code escenario.instantanea}. Si algún promedio supera su presupuesto, termina con
+ * estado 1 y la construcción falla; cuando un camino deje de asignar, su presupuesto se
+ * baja a 1 byte por tick, lo que dejan los cambios de nivel ocasionales, para que no
+ * vuelva a hacerlo.
+ *
+ * <p>Corre en todo {@code mvn verify}, que lo compila sin JMH junto con
+ * {@link EscenariosEstres}, {@link GuionEntrada} y {@link ConfiguracionBenchmark}; ninguna
+ * de estas clases debe depender de JMH. Uso (ver {@link #USO}):
+ * <pre>
+ * mvn test-compile exec:exec@presupuesto-asignacion
+ * </pre>
+ *
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ */
+public class PresupuestoAsignacion {
+    static final String USO = "Opciones: --presupuestos ARCHIVO [--segundos N] [--calentamiento SEGUNDOS]"
+        + " [--asentamiento SEGUNDOS] [--hz 60|120|240] [--semilla N] [--escenarios a,b,...]";
+
+    private static final String[] CAMINOS = {"actualizacion", "instantanea"};
+
+    private Path presupuestos;
+    private double segundos = 60;
+    private double segundosCalentamiento = 300;
+    /** Segundos iniciales de la partida medida que no se cuentan */
+    private double segundosAsentamiento = 5;
+    private int ticksPorSegundo = 60;
+    private long semilla = ConfiguracionBenchmark.SEMILLA;
+    private List<String> nombres = new ArrayList<>(EscenariosEstres.todos().keySet());
+
+    private final com.sun.management.ThreadMXBean hilos =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /**
+     * Mide los escenarios pedidos, informa cada camino contra su presupuesto y termina
+     * con estado 1 si alguno lo supera.
+     *
+     * @param args Opciones, ver {@link #USO}
+     */
+    public static void main(String[] args) throws IOException {
+        PresupuestoAsignacion verificador = new PresupuestoAsignacion();
+        verificador.leerArgumentos(args);
+        List<String> excedidos = verificador.verificar();
+        if (!excedidos.isEmpty()) {
+            System.err.println("Presupuesto de asignación excedido en: " + String.join(", ", excedidos));
+            System.exit(1);
+        }
+        System.out.println("Todos los caminos dentro del presupuesto");
+    }
+
+    private void leerArgumentos(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String opcion = args[i];
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Falta el valor de " + opcion + ". " + USO);
+            }
+            String valor = args[++i];
+            switch (opcion) {
+                case "--presupuestos" -> presupuestos = Path.of(valor);
+                case "--segundos" -> segundos = Double.parseDouble(valor);
+                case "--calentamiento" -> segundosCalentamiento = Double.parseDouble(valor);
+                case "--asentamiento" -> segundosAsentamiento = Double.parseDouble(valor);
+                case "--hz" -> ticksPorSegundo = Integer.parseInt(valor);
+                case "--semilla" -> semilla = Long.parseLong(valor);
+                case "--escenarios" -> nombres = Arrays.asList(valor.split(","));
+                default -> throw new IllegalArgumentException("Opción desconocida: " + opcion + ". " + USO);
+            }
+        }
+        if (presupuestos == null) {
+            throw new IllegalArgumentException("Falta el archivo de presupuestos. " + USO);
+        }
+        if (segundos <= 0 || segundosCalentamiento < 0 || segundosAsentamiento < 0 || ticksPorSegundo <= 0) {
+            throw new IllegalArgumentException("Duraciones y frecuencia deben ser positivas. " + USO);
+        }
+        Map<String, Escenario> escenarios = EscenariosEstres.todos();
+        for (String nombre : nombres) {
+            if (!escenarios.containsKey(nombre)) {
+                throw new IllegalArgumentException("Escenario desconocido: " + nombre
+                    + ". Disponibles: " + escenarios.keySet());
+            }
+        }
+    }
+
+    /**
+     * @return Escenarios y caminos que superaron su presupuesto, como {@code escenario.camino}
+     */
+    private List<String> verificar() throws IOException {
+        if (!hilos.isThreadAllocatedMemorySupported() || !hilos.isThreadAllocatedMemoryEnabled()) {
+            throw new IllegalStateException("La JVM no mide la memoria asignada por hilo");
+        }
+        Properties limites = new Properties();
+        try (Reader lector = Files.newBufferedReader(presupuestos, StandardCharsets.UTF_8)) {
+            limites.load(lector);
+        }
+
+        List<String> excedidos = new ArrayList<>();
+        Map<String, Escenario> escenarios = EscenariosEstres.todos();
+        for (String nombre : nombres) {
+            Escenario escenario = escenarios.get(nombre);
+            long ticks = Math.round(segundos * ticksPorSegundo);
+            long[] bytes = new long[CAMINOS.length];
+            simular(escenario, Math.round(segundosCalentamiento * ticksPorSegundo), 0, null);
+            simular(escenario, Math.round(segundosAsentamiento * ticksPorSegundo), ticks, bytes);
+            for (int c = 0; c < CAMINOS.length; c++) {
+                String clave = nombre + "." + CAMINOS[c];
+                String limite = limites.getProperty(clave);
+                if (limite == null) {
+                    throw new IllegalArgumentException("Falta el presupuesto " + clave + " en " + presupuestos);
+                }
+                double porTick = (double) bytes[c] / ticks;
+                boolean excedido = porTick > Double.parseDouble(limite.trim());
+                System.out.printf(Locale.ROOT, "%-32s %10.1f B/tick  (presupuesto %s)%s%n",
+                    clave, porTick, limite.trim(), excedido ? "  EXCEDIDO" : "");
+                if (excedido) {
+                    excedidos.add(clave);
+                }
+            }
+        }
+        return excedidos;
+    }
+
+    /**
+     * Juega un escenario con una partida nueva creada con la semilla: primero los ticks
+     * que no se cuentan y luego los medidos. Si la partida termina, se vuelve a empezar;
+     * el reinicio no se mide.
+     *
+     * @param bytes Donde acumular los bytes medidos de cada camino, en el orden de
+     *              {@link #CAMINOS}, o null para sólo calentar
+     */
+    private void simular(Escenario escenario, long descartados, long ticks, long[] bytes) {
+        double dt = 1.0 / ticksPorSegundo;
+        GuionEntrada guion = new GuionEntrada(ticksPorSegundo);
+        EstadoEntrada entrada = new EstadoEntrada();
+        Juego juego = new Juego(semilla);
+        juego.inicializarPartida(escenario);
+        long tickPartida = 0;
+        long actualizacion = 0;
+        long instantanea = 0;
+
+        for (long i = 0; i < descartados + ticks; i++) {
+            if ("GAME_OVER".equals(juego.getEstado())) {
+                juego.inicializarPartida(escenario);
+                tickPartida = 0;
+            }
+            guion.aplicar(tickPartida++, entrada);
+            long inicio = hilos.getCurrentThreadAllocatedBytes();
+            juego.update(dt, entrada);
+            long actualizado = hilos.getCurrentThreadAllocatedBytes();
+            juego.obtenerEstadoParaRenderizado();
+            long fin = hilos.getCurrentThreadAllocatedBytes();
+            if (i >= descartados) {
+                actualizacion += actualizado - inicio;
+                instantanea += fin - actualizado;
+            }
+        }
+
+        if (bytes != null) {
+            bytes[0] = actualizacion;
+            bytes[1] = instantanea;
+        }
+    }
+}
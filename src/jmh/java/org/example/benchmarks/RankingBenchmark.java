@@ -0,0 +1,78 @@
+package org.example.benchmarks;
+
+import org.example.modelo.EntradaRanking;
+import org.example.modelo.Ranking;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de las operaciones del {@link Ranking} con muchas entradas ya registradas:
+ * registrar desde varios hilos a la vez, la posición de una puntuación, una página en
+ * una posición al azar y las 5 mejores.
+ *
+ * <p>Las puntuaciones son múltiplos de 10, como en el juego, así que hay empates. Las
+ * entradas que se registran durante la medición se suman a las iniciales.
+ *
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RankingBenchmark {
+    private static final int PUNTUACION_MAXIMA = 100_000;
+    private static final int TAMANIO_PAGINA = 20;
+
+    @Param({"10000", "1000000"})
+    int entradas;
+
+    private Ranking ranking;
+
+    /**
+     * Generador de cada hilo, para no compartirlo entre los que registran.
+     */
+    @State(Scope.Thread)
+    public static class Azar {
+        final SplittableRandom rng = new SplittableRandom(ConfiguracionBenchmark.SEMILLA);
+
+        int puntuacion() {
+            return rng.nextInt(PUNTUACION_MAXIMA) * 10;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        ranking = new Ranking();
+        SplittableRandom rng = new SplittableRandom(ConfiguracionBenchmark.SEMILLA);
+        for (int i = 0; i < entradas; i++) {
+            ranking.agregarEntrada("J" + i, rng.nextInt(10), rng.nextInt(PUNTUACION_MAXIMA) * 10);
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void agregarEntrada(Azar azar) {
+        ranking.agregarEntrada("J", 3, azar.puntuacion());
+    }
+
+    @Benchmark
+    public long getPosicion(Azar azar) {
+        return ranking.getPosicion(azar.puntuacion());
+    }
+
+    @Benchmark
+    public List<EntradaRanking> getPagina(Azar azar) {
+        return ranking.getPagina(azar.rng.nextInt(entradas), TAMANIO_PAGINA);
+    }
+
+    @Benchmark
+    public List<EntradaRanking> getTop5() {
+        return ranking.getTop5();
+    }
+}
@@ -0,0 +1,156 @@
+package org.example.benchmarks;
+
+import org.example.modelo.Juego;
+import org.example.modelo.JugadorEnJuego;
+import org.example.modelo.entidad.AABB;
+import org.example.modelo.entidad.AlmacenProyectiles;
+import org.example.modelo.entidad.GrillaEspacial;
+import org.example.modelo.entidad.MuroEnergia;
+import org.example.modelo.entidad.NaveJugador;
+import org.example.modelo.entidad.RejillaFormacion;
+import org.example.modelo.entidad.ResolverColisiones;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de {@link ResolverColisiones#resolver} en un tick con la pantalla llena de
+ * proyectiles: un 30% del jugador sobre la formación y el resto enemigos repartidos
+ * por toda la pantalla. {@link #exhaustivo()} resuelve el mismo estado comparando cada
+ * proyectil contra todos los muros y todos los slots de la formación, con las mismas
+ * reglas, como referencia de lo que ahorra la fase amplia.
+ *
+ * <p>Resolver elimina proyectiles, enemigos y bloques de muro, así que antes de cada
+ * invocación se restaura el estado en el lugar (sin crear objetos, para no ensuciar
+ * las cifras de {@code -prof gc}).
+ *
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResolverColisionesBenchmark {
+    @Param({"55", "500", "5000"})
+    int enemigos;
+
+    @Param({"100", "1000", "5000"})
+    int proyectiles;
+
+    @Param({"1.0", "0.3"})
+    double densidadMuros;
+
+    private RejillaFormacion formacion;
+    private List<MuroEnergia> muros;
+    private AlmacenProyectiles almacen;
+    private NaveJugador nave;
+    private JugadorEnJuego jugador;
+    private final GrillaEspacial grillaMuros = new GrillaEspacial(Juego.WIDTH, Juego.HEIGHT, 40);
+    private final SplittableRandom rng = new SplittableRandom(ConfiguracionBenchmark.SEMILLA);
+    private double[] xs;
+    private double[] ys;
+    private boolean[] delJugador;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        formacion = ConfiguracionBenchmark.crearFormacion(ConfiguracionBenchmark.nivelConEnemigos(enemigos, 0));
+        muros = ConfiguracionBenchmark.crearMuros();
+        almacen = new AlmacenProyectiles(proyectiles);
+        nave = new NaveJugador(Juego.WIDTH / 2 - 20, Juego.HEIGHT - 80, 40, 20, 300);
+        jugador = new JugadorEnJuego(Integer.MAX_VALUE);
+
+        xs = new double[proyectiles];
+        ys = new double[proyectiles];
+        delJugador = new boolean[proyectiles];
+        double altoFormacion = formacion.getY(formacion.getCantidadSlots() - 1) + formacion.getAltoNave() - 80;
+        for (int i = 0; i < proyectiles; i++) {
+            delJugador[i] = rng.nextDouble() < 0.3;
+            if (delJugador[i]) {
+                xs[i] = 80 + rng.nextDouble() * (Juego.WIDTH - 160);
+                ys[i] = 80 + rng.nextDouble() * altoFormacion;
+            } else {
+                xs[i] = rng.nextDouble() * Juego.WIDTH;
+                ys[i] = rng.nextDouble() * Juego.HEIGHT;
+            }
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void restaurar() {
+        formacion.reiniciar(80, 80);
+        for (MuroEnergia muro : muros) {
+            muro.reconstruir(3, densidadMuros, rng);
+        }
+        almacen.limpiar();
+        for (int i = 0; i < proyectiles; i++) {
+            if (delJugador[i]) {
+                almacen.dispararJugador(xs[i], ys[i]);
+            } else {
+                almacen.dispararEnemigo(xs[i], ys[i]);
+            }
+        }
+    }
+
+    @Benchmark
+    public int resolver() {
+        ResolverColisiones.resolver(almacen, formacion, muros, nave, jugador, grillaMuros);
+        return almacen.getCantidad();
+    }
+
+    @Benchmark
+    public int exhaustivo() {
+        resolverExhaustivo(almacen, formacion, muros, nave, jugador);
+        return almacen.getCantidad();
+    }
+
+    /**
+     * Comparación exhaustiva, sin fase amplia: cada proyectil contra cada muro en orden
+     * de lista y, si es del jugador, contra cada slot vivo del mayor al menor.
+     */
+    private static void resolverExhaustivo(AlmacenProyectiles proyectiles,
+                                           RejillaFormacion formacion,
+                                           List<MuroEnergia> muros,
+                                           NaveJugador jugador,
+                                           JugadorEnJuego estadoJugador) {
+        final int pw = AlmacenProyectiles.ANCHO;
+        final int ph = AlmacenProyectiles.ALTO;
+        final int ancho = formacion.getAnchoNave();
+        final int alto = formacion.getAltoNave();
+        for (int i = proyectiles.getCantidad() - 1; i >= 0; i--) {
+            int px = (int) proyectiles.getX(i);
+            int py = (int) proyectiles.getY(i);
+
+            boolean eliminado = false;
+            for (int m = 0; m < muros.size(); m++) {
+                if (muros.get(m).hit(px, py, pw, ph)) {
+                    proyectiles.eliminar(i);
+                    eliminado = true;
+                    break;
+                }
+            }
+            if (eliminado) continue;
+
+            if (proyectiles.isDelJugador(i)) {
+                for (int slot = formacion.getCantidadSlots() - 1; slot >= 0; slot--) {
+                    if (formacion.estaVivo(slot) && AABB.intersectan(px, py, pw, ph,
+                            (int) formacion.getX(slot), (int) formacion.getY(slot), ancho, alto)) {
+                        formacion.eliminar(slot);
+                        proyectiles.eliminar(i);
+                        estadoJugador.agregarPuntos(10);
+                        break;
+                    }
+                }
+            } else if (AABB.intersectan(px, py, pw, ph,
+                    (int) jugador.getX(), (int) jugador.getY(), jugador.getWidth(), jugador.getHeight())) {
+                estadoJugador.perderVida();
+                // La nave ya está centrada, así que no hace falta reposicionarla
+                proyectiles.eliminar(i);
+            }
+        }
+    }
+}
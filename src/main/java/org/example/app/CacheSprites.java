@@ -0,0 +1,219 @@
+package org.example.app;
+
+import java.awt.*;
+import java.awt.image.VolatileImage;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Caché de sprites pre-renderizados para las naves y los proyectiles.
+ *
+ * <p>Cada combinación de tipo, tamaño y color se dibuja una sola vez en una imagen
+ * compatible con la configuración gráfica de destino: una {@link VolatileImage}, que
+ * puede quedar en memoria de video, o una imagen en memoria común si la plataforma no
+ * la ofrece. Después, dibujar una entidad es un único {@code drawImage}, sin polígonos
+ * ni colores nuevos por fotograma.
+ *
+ * <p>Si cambia la configuración gráfica (por ejemplo, al mover la ventana a otra
+ * pantalla) los sprites se descartan y se vuelven a crear. Una {@link VolatileImage}
+ * puede perder su contenido en cualquier momento; se valida antes de cada uso y se
+ * vuelve a dibujar si hace falta.
+ *
+ * <p>Sólo debe usarse desde el hilo que dibuja.
+ *
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ */
+class CacheSprites {
+    /**
+     * Tipos de sprite. Cada tipo sabe dibujarse y cuánto sobresale de la caja de la
+     * entidad que representa.
+     */
+    enum TipoSprite {
+        NAVE_JUGADOR(8) {
+            @Override
+            void dibujar(Graphics2D g, int width, int height, Color color) {
+                int cañonHeight = margenSuperior;
+                int yInt = cañonHeight;
+
+                // Cuerpo principal de la nave (triángulo)
+                g.setColor(color);
+                int[] xPoints = {width / 2, 0, width};
+                int[] yPoints = {yInt, yInt + height, yInt + height};
+                g.fillPolygon(xPoints, yPoints, 3);
+
+                // Cañón en la parte superior
+                int cañonWidth = 6;
+                g.setColor(new Color(0, 200, 0));
+                g.fillRect(width / 2 - cañonWidth / 2, yInt - cañonHeight, cañonWidth, cañonHeight);
+
+                // Detalles del cañón
+                g.setColor(new Color(0, 255, 0));
+                g.fillRect(width / 2 - 2, yInt - cañonHeight, 4, cañonHeight);
+            }
+        },
+        NAVE_ENEMIGA(0) {
+            @Override
+            void dibujar(Graphics2D g, int width, int height, Color color) {
+                // Forma de nave enemiga (polígono)
+                g.setColor(color);
+                int[] xPoints = {
+                    width / 2,      // Punta superior
+                    0,              // Esquina superior izquierda
+                    width / 4,      // Parte media izquierda
+                    0,              // Esquina inferior izquierda
+                    width / 2,      // Centro inferior
+                    width,          // Esquina inferior derecha
+                    3 * width / 4,  // Parte media derecha
+                    width           // Esquina superior derecha
+                };
+                int[] yPoints = {
+                    0,              // Punta superior
+                    height / 4,     // Parte superior
+                    height / 2,     // Parte media
+                    height,         // Parte inferior izquierda
+                    height - 2,     // Centro inferior
+                    height,         // Parte inferior derecha
+                    height / 2,     // Parte media
+                    height / 4      // Parte superior
+                };
+                g.fillPolygon(xPoints, yPoints, 8);
+
+                // Detalles: ventanas/cabina
+                g.setColor(new Color(200, 0, 0));
+                g.fillOval(width / 4, height / 4, width / 2, height / 3);
+            }
+        },
+        PROYECTIL(0) {
+            @Override
+            void dibujar(Graphics2D g, int width, int height, Color color) {
+                g.setColor(color);
+                g.fillRect(0, 0, width, height);
+            }
+        };
+
+        /** Píxeles que el sprite ocupa por encima de la caja de la entidad */
+        final int margenSuperior;
+
+        TipoSprite(int margenSuperior) {
+            this.margenSuperior = margenSuperior;
+        }
+
+        /**
+         * Dibuja el sprite con su esquina superior izquierda en (0, 0).
+         */
+        abstract void dibujar(Graphics2D g, int width, int height, Color color);
+    }
+
+    private static final class Sprite {
+        final TipoSprite tipo;
+        final int width;
+        final int height;
+        final int rgb;
+        final Color color;
+        Image imagen;
+
+        Sprite(TipoSprite tipo, int width, int height, Color color) {
+            this.tipo = tipo;
+            this.width = width;
+            this.height = height;
+            this.rgb = color.getRGB();
+            this.color = color;
+        }
+
+        boolean coincide(TipoSprite tipo, int width, int height, Color color) {
+            return this.tipo == tipo && this.width == width && this.height == height
+                && this.rgb == color.getRGB();
+        }
+    }
+
+    /** Hay pocos sprites distintos, así que una búsqueda lineal no crea objetos y alcanza */
+    private final List<Sprite> sprites = new ArrayList<>();
+    private GraphicsConfiguration configuracion;
+
+    /**
+     * Prepara la caché para dibujar sobre un destino; si la configuración gráfica
+     * cambió, descarta todos los sprites. Debe llamarse al comienzo de cada fotograma.
+     */
+    void prepararFotograma(Graphics2D g) {
+        GraphicsConfiguration actual = g.getDeviceConfiguration();
+        if (actual != configuracion) {
+            liberar();
+            configuracion = actual;
+        }
+    }
+
+    /**
+     * Dibuja el sprite indicado, con la caja de la entidad en (x, y).
+     */
+    void dibujar(Graphics2D g, TipoSprite tipo, int x, int y, int width, int height, Color color) {
+        Sprite sprite = buscar(tipo, width, height, color);
+        Image imagen = sprite.imagen;
+        if (imagen instanceof VolatileImage) {
+            VolatileImage volatil = (VolatileImage) imagen;
+            int validacion = volatil.validate(configuracion);
+            if (validacion == VolatileImage.IMAGE_INCOMPATIBLE) {
+                volatil.flush();
+                rasterizar(sprite);
+            } else if (validacion == VolatileImage.IMAGE_RESTORED) {
+                pintar(sprite);
+            }
+            imagen = sprite.imagen;
+        }
+        g.drawImage(imagen, x, y - tipo.margenSuperior, null);
+    }
+
+    private Sprite buscar(TipoSprite tipo, int width, int height, Color color) {
+        for (int i = 0; i < sprites.size(); i++) {
+            Sprite sprite = sprites.get(i);
+            if (sprite.coincide(tipo, width, height, color)) {
+                return sprite;
+            }
+        }
+        Sprite sprite = new Sprite(tipo, width, height, color);
+        rasterizar(sprite);
+        sprites.add(sprite);
+        return sprite;
+    }
+
+    private void rasterizar(Sprite sprite) {
+        int ancho = Math.max(1, sprite.width + 1);
+        int alto = Math.max(1, sprite.height + 1 + sprite.tipo.margenSuperior);
+        Image imagen = null;
+        try {
+            VolatileImage volatil = configuracion.createCompatibleVolatileImage(ancho, alto, Transparency.BITMASK);
+            if (volatil != null) {
+                // La primera validación de una imagen nueva informa que fue restaurada
+                volatil.validate(configuracion);
+                imagen = volatil;
+            }
+        } catch (UnsupportedOperationException | IllegalArgumentException e) {
+            // Sin soporte para imágenes volátiles con transparencia: usar memoria común
+        }
+        if (imagen == null) {
+            imagen = configuracion.createCompatibleImage(ancho, alto, Transparency.BITMASK);
+        }
+        sprite.imagen = imagen;
+        pintar(sprite);
+    }
+
+    private void pintar(Sprite sprite) {
+        Graphics2D g = (Graphics2D) sprite.imagen.getGraphics();
+        try {
+            // Limpiar a transparente antes de dibujar
+            g.setComposite(AlphaComposite.Clear);
+            g.fillRect(0, 0, sprite.imagen.getWidth(null), sprite.imagen.getHeight(null));
+            g.setComposite(AlphaComposite.SrcOver);
+            sprite.tipo.dibujar(g, sprite.width, sprite.height, sprite.color);
+        } finally {
+            g.dispose();
+        }
+    }
+
+    private void liberar() {
+        for (Sprite sprite : sprites) {
+            sprite.imagen.flush();
+        }
+        sprites.clear();
+    }
+}
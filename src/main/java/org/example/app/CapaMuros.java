@@ -0,0 +1,173 @@
+package org.example.app;
+
+import java.awt.*;
+import java.awt.image.VolatileImage;
+import java.util.Arrays;
+
+/**
+ * Capa retenida con la franja de escudos y los bloques de muro.
+ *
+ * <p>La franja de fondo y los bloques se componen una vez en una imagen opaca fuera de
+ * pantalla; en cada fotograma se dibuja esa imagen con un único {@code drawImage}. Cuando
+ * un impacto cambia un bloque sólo se vuelve a dibujar su celda. La imagen se reconstruye
+ * completa si cambian los muros (nueva generación), el tamaño del área de dibujo o la
+ * configuración gráfica, o si la {@link VolatileImage} pierde su contenido.
+ *
+ * <p>La capa cubre exactamente la franja. Los bloques que no quedan completamente dentro
+ * de ella (con el tamaño de ventana habitual, ninguno) se siguen dibujando uno por uno
+ * en cada fotograma.
+ *
+ * <p>Sólo debe usarse desde el hilo que dibuja.
+ *
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ */
+class CapaMuros {
+    private static final Color COLOR_FRANJA = new Color(20, 20, 40);
+    private static final Color COLOR_BLOQUE = new Color(0, 180, 0);
+
+    private Image imagen;
+    private GraphicsConfiguration configuracion;
+    private int ancho;
+    private int alto;
+    private int franjaY;
+    private int franjaAlto;
+    /** Posiciones en la copia de los bloques que no caben completos en la franja */
+    private int[] fueraDeFranja = new int[0];
+    private int cantidadFueraDeFranja;
+
+    /**
+     * Actualiza la capa con los cambios de la copia de muros y la dibuja.
+     *
+     * @param g Destino del dibujo
+     * @param copia Copia de los muros; se limpian sus bloques modificados
+     * @param ancho Ancho del área de dibujo
+     * @param alto Alto del área de dibujo
+     */
+    void dibujar(Graphics2D g, CopiaMuros copia, int ancho, int alto) {
+        GraphicsConfiguration actual = g.getDeviceConfiguration();
+        if (actual != configuracion || ancho != this.ancho || alto != this.alto || copia.isReiniciada()) {
+            crear(actual, copia, ancho, alto);
+            pintar(copia);
+        } else {
+            int validacion = imagen instanceof VolatileImage
+                ? ((VolatileImage) imagen).validate(actual) : VolatileImage.IMAGE_OK;
+            if (validacion == VolatileImage.IMAGE_INCOMPATIBLE) {
+                crear(actual, copia, ancho, alto);
+                pintar(copia);
+            } else if (validacion == VolatileImage.IMAGE_RESTORED) {
+                pintar(copia);
+            } else {
+                parchear(copia);
+            }
+        }
+        copia.limpiarModificados();
+
+        if (imagen != null) {
+            g.drawImage(imagen, 0, franjaY, null);
+        }
+        if (cantidadFueraDeFranja > 0) {
+            g.setColor(COLOR_BLOQUE);
+            int lado = copia.getLado();
+            for (int k = 0; k < cantidadFueraDeFranja; k++) {
+                int i = fueraDeFranja[k];
+                if (copia.getHp(i) > 0) {
+                    g.fillRect(copia.getX(i), copia.getY(i), lado, lado);
+                }
+            }
+        }
+    }
+
+    /**
+     * Calcula la ubicación de la franja y crea una imagen vacía para la capa.
+     */
+    private void crear(GraphicsConfiguration gc, CopiaMuros copia, int ancho, int alto) {
+        this.configuracion = gc;
+        this.ancho = ancho;
+        this.alto = alto;
+
+        // Franja de escudos
+        int escudosY = alto - 140;
+        int escudosHeight = 60;
+        franjaY = escudosY - 10;
+        franjaAlto = escudosHeight + 20;
+
+        int lado = copia.getLado();
+        cantidadFueraDeFranja = 0;
+        for (int i = 0; i < copia.getCantidad(); i++) {
+            if (copia.getHp(i) < 0) continue; // Todavía sin datos: al llegar se vuelve a crear
+            if (copia.getY(i) < franjaY || copia.getY(i) + lado > franjaY + franjaAlto) {
+                if (cantidadFueraDeFranja == fueraDeFranja.length) {
+                    fueraDeFranja = Arrays.copyOf(fueraDeFranja, Math.max(8, fueraDeFranja.length * 2));
+                }
+                fueraDeFranja[cantidadFueraDeFranja++] = i;
+            }
+        }
+
+        if (imagen != null) {
+            imagen.flush();
+            imagen = null;
+        }
+        if (ancho <= 0 || franjaAlto <= 0) {
+            return;
+        }
+        VolatileImage volatil = gc.createCompatibleVolatileImage(ancho, franjaAlto);
+        if (volatil != null) {
+            // La primera validación de una imagen nueva informa que fue restaurada
+            volatil.validate(gc);
+            imagen = volatil;
+        } else {
+            imagen = gc.createCompatibleImage(ancho, franjaAlto);
+        }
+    }
+
+    /**
+     * Dibuja la capa completa: la franja y todos los bloques vivos.
+     */
+    private void pintar(CopiaMuros copia) {
+        if (imagen == null) {
+            return;
+        }
+        int lado = copia.getLado();
+        Graphics2D g = (Graphics2D) imagen.getGraphics();
+        try {
+            g.setColor(COLOR_FRANJA);
+            g.fillRect(0, 0, ancho, franjaAlto);
+            g.setColor(COLOR_BLOQUE);
+            for (int i = 0; i < copia.getCantidad(); i++) {
+                if (copia.getHp(i) > 0) {
+                    g.fillRect(copia.getX(i), copia.getY(i) - franjaY, lado, lado);
+                }
+            }
+        } finally {
+            g.dispose();
+        }
+    }
+
+    /**
+     * Vuelve a dibujar en la capa sólo las celdas de los bloques modificados.
+     */
+    private void parchear(CopiaMuros copia) {
+        int cantidad = copia.getCantidadModificados();
+        if (cantidad == 0 || imagen == null) {
+            return;
+        }
+        int lado = copia.getLado();
+        Graphics2D g = (Graphics2D) imagen.getGraphics();
+        try {
+            for (int k = 0; k < cantidad; k++) {
+                int i = copia.getModificado(k);
+                int x = copia.getX(i);
+                int y = copia.getY(i) - franjaY;
+                g.setColor(COLOR_FRANJA);
+                g.fillRect(x, y, lado, lado);
+                if (copia.getHp(i) > 0) {
+                    g.setColor(COLOR_BLOQUE);
+                    g.fillRect(x, y, lado, lado);
+                }
+            }
+        } finally {
+            g.dispose();
+        }
+    }
+}
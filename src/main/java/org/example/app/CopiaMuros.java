@@ -0,0 +1,113 @@
+package org.example.app;
+
+import org.example.modelo.EstadoJuegoDTO;
+
+import java.util.Arrays;
+
+/**
+ * Copia de los bloques de muro que conserva la vista entre repintados.
+ *
+ * <p>Las instantáneas del juego sólo traen los bloques que cambiaron; esta clase los
+ * aplica sobre la copia retenida para que el panel pueda dibujar todos los muros sin
+ * que el modelo los vuelva a enviar en cada fotograma. Los bloques se guardan en
+ * arreglos planos indexados como en el modelo, por muro y celda
+ * ({@link EstadoJuegoDTO.CambiosMuros#getIndice(int)}). Sólo debe usarse desde el hilo
+ * que dibuja.
+ *
+ * <p>Además registra qué bloques cambiaron realmente desde la última llamada a
+ * {@link #limpiarModificados()}, para que la capa de muros sólo vuelva a dibujar esos.
+ *
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ */
+class CopiaMuros {
+    /** Puntos de vida de un bloque que todavía no llegó en ninguna instantánea */
+    private static final byte SIN_DATOS = -1;
+
+    private int generacion = -1;
+    private int lado;
+    private int[] xs = new int[0];
+    private int[] ys = new int[0];
+    private byte[] hps = new byte[0];
+    /** Bloques de la generación actual; los arreglos pueden ser más largos */
+    private int cantidad;
+    private EstadoJuegoDTO.CambiosMuros ultimosAplicados;
+    /** Posiciones de los bloques cuyo hp cambió desde la última limpieza */
+    private int[] modificados = new int[16];
+    private int cantidadModificados;
+    /** Indica que se descartó la copia anterior y hay que redibujar todo */
+    private boolean reiniciada;
+
+    /**
+     * Aplica los cambios de una instantánea. Aplicar varias veces los mismos cambios
+     * no tiene efecto adicional.
+     */
+    void aplicar(EstadoJuegoDTO.CambiosMuros cambios) {
+        if (cambios == null || !cambios.hayCambios() || cambios == ultimosAplicados) {
+            return;
+        }
+        ultimosAplicados = cambios;
+        if (cambios.getGeneracion() != generacion) {
+            reiniciar(cambios);
+        }
+        for (int i = 0; i < cambios.getCantidad(); i++) {
+            int posicion = cambios.getIndice(i);
+            byte hp = (byte) cambios.getHp(i);
+            if (hps[posicion] == SIN_DATOS) {
+                // Un bloque nuevo cambia la forma de los muros: hay que redibujar todo
+                xs[posicion] = cambios.getX(i);
+                ys[posicion] = cambios.getY(i);
+                reiniciada = true;
+                cantidadModificados = 0;
+            } else if (hps[posicion] == hp) {
+                continue;
+            }
+            hps[posicion] = hp;
+            marcarModificado(posicion);
+        }
+    }
+
+    /**
+     * Descarta la copia anterior y prepara los arreglos para los bloques de otra
+     * generación de muros.
+     */
+    private void reiniciar(EstadoJuegoDTO.CambiosMuros cambios) {
+        generacion = cambios.getGeneracion();
+        lado = cambios.getLado();
+        cantidad = cambios.getTotalBloques();
+        if (hps.length < cantidad) {
+            xs = new int[cantidad];
+            ys = new int[cantidad];
+            hps = new byte[cantidad];
+        }
+        Arrays.fill(hps, 0, cantidad, SIN_DATOS);
+        reiniciada = true;
+        cantidadModificados = 0;
+    }
+
+    private void marcarModificado(int posicion) {
+        if (reiniciada) return;
+        if (cantidadModificados == modificados.length) {
+            modificados = Arrays.copyOf(modificados, modificados.length * 2);
+        }
+        modificados[cantidadModificados++] = posicion;
+    }
+
+    /**
+     * Olvida los bloques modificados y la marca de reinicio, una vez que ya se dibujaron.
+     */
+    void limpiarModificados() {
+        cantidadModificados = 0;
+        reiniciada = false;
+    }
+
+    int getCantidad() { return cantidad; }
+    int getLado() { return lado; }
+    int getX(int i) { return xs[i]; }
+    int getY(int i) { return ys[i]; }
+    int getHp(int i) { return hps[i]; }
+    boolean isReiniciada() { return reiniciada; }
+    int getCantidadModificados() { return cantidadModificados; }
+    /** Posición del i-ésimo bloque modificado, para usar con getX/getY/getHp */
+    int getModificado(int i) { return modificados[i]; }
+}
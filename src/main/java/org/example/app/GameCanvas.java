@@ -0,0 +1,187 @@
+package org.example.app;
+
+import org.example.metricas.MetricasJuego;
+import org.example.metricas.MetricasLatencia;
+import org.example.modelo.EstadoJuegoDTO;
+import org.example.modelo.entrada.AnilloEntrada;
+
+import javax.swing.SwingUtilities;
+import java.awt.*;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.image.BufferStrategy;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Lienzo del juego con renderizado activo.
+ *
+ * <p>A diferencia de {@link GamePanel}, no dibuja desde el hilo de eventos: un hilo de
+ * renderizado propio dibuja cada fotograma en un {@link BufferStrategy} (con intercambio
+ * de páginas cuando la plataforma lo permite) y lo presenta directamente. El hilo de
+ * eventos sólo atiende el teclado y los menús, por lo que un diálogo o un cambio de
+ * diseño no demora los fotogramas.
+ *
+ * <p>El hilo de renderizado espera hasta que el controlador pide un fotograma con
+ * {@link #solicitarFotograma()}, de modo que el ritmo lo marca el reloj de la simulación.
+ * Como en el renderizado pasivo, hay a lo sumo un fotograma pendiente: las solicitudes
+ * que llegan mientras el hilo todavía no tomó la anterior se cuentan como descartadas.
+ * El hilo se inicia cuando el lienzo ya tiene tamaño en pantalla y se detiene al
+ * quitarlo de la ventana.
+ *
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ */
+public class GameCanvas extends Canvas {
+    private final TecladoJuego teclado = new TecladoJuego();
+    /** Sólo lo usa el hilo de renderizado */
+    private final RenderizadorJuego renderizador = new RenderizadorJuego();
+    private volatile Supplier<EstadoJuegoDTO> proveedorEstado;
+    private volatile boolean renderizando = false;
+    private final AtomicBoolean pendiente = new AtomicBoolean(false);
+    private volatile MetricasJuego metricasJuego;
+    private Thread hiloRenderizado;
+
+    public GameCanvas(int width, int height) {
+        setPreferredSize(new Dimension(width, height));
+        setFocusable(true);
+        setIgnoreRepaint(true);
+        setBackground(Color.black);
+        addKeyListener(teclado);
+        addFocusListener(teclado);
+        addComponentListener(new ComponentAdapter() {
+            @Override
+            public void componentResized(ComponentEvent e) {
+                iniciarRenderizado();
+            }
+        });
+    }
+
+    /**
+     * Establece el proveedor de estado que consultará el hilo de renderizado.
+     *
+     * @param proveedorEstado Función que retorna el estado actual del juego
+     */
+    public void setProveedorEstado(Supplier<EstadoJuegoDTO> proveedorEstado) {
+        this.proveedorEstado = proveedorEstado;
+    }
+
+    /**
+     * @param metricas Destino de las latencias de presentación; null para no medirlas
+     */
+    public void setMetricasLatencia(MetricasLatencia metricas) {
+        renderizador.setMetricasLatencia(metricas);
+    }
+
+    /**
+     * @param metricas Destino de la duración del dibujo de cada fotograma; null para no medirla
+     */
+    public void setMetricasJuego(MetricasJuego metricas) {
+        renderizador.setMetricasJuego(metricas);
+        metricasJuego = metricas;
+    }
+
+    public AnilloEntrada getEntrada() {
+        return teclado.getEntrada();
+    }
+
+    /**
+     * Despierta al hilo de renderizado para que dibuje un fotograma. Puede llamarse
+     * desde cualquier hilo; varias solicitudes seguidas se reducen a un solo fotograma.
+     */
+    public void solicitarFotograma() {
+        boolean yaPendiente = pendiente.getAndSet(true);
+        MetricasJuego m = metricasJuego;
+        if (m != null) {
+            m.registrarSolicitudFotograma(yaPendiente);
+        }
+        if (yaPendiente) {
+            return;
+        }
+        Thread hilo = hiloRenderizado;
+        if (hilo != null) {
+            LockSupport.unpark(hilo);
+        }
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        // Si el lienzo ya tenía tamaño no habrá evento de redimensionamiento
+        SwingUtilities.invokeLater(this::iniciarRenderizado);
+    }
+
+    @Override
+    public void removeNotify() {
+        // Detener el hilo antes de que se libere el BufferStrategy
+        detenerRenderizado();
+        super.removeNotify();
+    }
+
+    /**
+     * Crea el BufferStrategy e inicia el hilo de renderizado, si todavía no se hizo y
+     * el lienzo ya tiene tamaño. Se ejecuta en el hilo de eventos.
+     */
+    private void iniciarRenderizado() {
+        if (hiloRenderizado != null || !isDisplayable() || getWidth() <= 0 || getHeight() <= 0) {
+            return;
+        }
+        createBufferStrategy(2);
+        renderizando = true;
+        hiloRenderizado = new Thread(this::bucleRenderizado, "render");
+        hiloRenderizado.setDaemon(true);
+        hiloRenderizado.start();
+    }
+
+    private void detenerRenderizado() {
+        Thread hilo = hiloRenderizado;
+        if (hilo == null) return;
+        renderizando = false;
+        LockSupport.unpark(hilo);
+        try {
+            hilo.join(100); // Esperar hasta 100ms a que termine el fotograma en curso
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        hiloRenderizado = null;
+    }
+
+    private void bucleRenderizado() {
+        BufferStrategy estrategia = getBufferStrategy();
+        while (renderizando) {
+            // Revisar la marca antes de esperar: puede haberse pedido un fotograma antes
+            // de que el hilo existiera. park() también puede volver sin motivo.
+            if (pendiente.getAndSet(false)) {
+                dibujarFotograma(estrategia);
+            } else {
+                LockSupport.park(this);
+            }
+        }
+    }
+
+    private void dibujarFotograma(BufferStrategy estrategia) {
+        Supplier<EstadoJuegoDTO> proveedor = proveedorEstado;
+        if (proveedor == null) return;
+        EstadoJuegoDTO estado = proveedor.get();
+        if (estado == null) return;
+
+        int ancho = getWidth();
+        int alto = getHeight();
+        // El contenido del buffer puede perderse (por ejemplo, si cambia el modo de
+        // pantalla); en ese caso se vuelve a dibujar el mismo fotograma
+        do {
+            do {
+                Graphics2D g = (Graphics2D) estrategia.getDrawGraphics();
+                try {
+                    renderizador.renderizar(g, estado, ancho, alto);
+                } finally {
+                    g.dispose();
+                }
+            } while (estrategia.contentsRestored());
+            estrategia.show();
+        } while (estrategia.contentsLost());
+        Toolkit.getDefaultToolkit().sync();
+        renderizador.registrarPresentacion();
+    }
+}
@@ -0,0 +1,306 @@
+package org.example.app;
+
+import org.example.metricas.MetricasJuego;
+import org.example.metricas.PausasGc;
+import org.example.metricas.VentanaHistograma;
+import org.example.modelo.EstadoJuegoDTO;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Capa con métricas de rendimiento en vivo, que se muestra sobre el juego al presionar F3.
+ *
+ * <p>Muestra los fotogramas y ticks por segundo, los percentiles 50 y 99 del tick y del
+ * dibujo con una línea de su evolución en los últimos segundos, la tasa de asignación,
+ * las últimas pausas de GC y la cantidad de enemigos, proyectiles y bloques de muro vivos.
+ *
+ * <p>Cada {@value #PERIODO_MUESTRA_MILIS} ms toma una muestra de las métricas y compone
+ * el panel en una imagen retenida; en los demás fotogramas sólo cuenta el fotograma y
+ * dibuja esa imagen. Ni la muestra ni el fotograma crean objetos: los textos se arman
+ * en un arreglo de caracteres reutilizado y los percentiles del último intervalo se
+ * calculan con {@link VentanaHistograma}.
+ *
+ * <p>La visibilidad es la misma para todas las instancias, de modo que se conserva entre
+ * partidas. Salvo {@link #alternar()}, sólo debe usarse desde el hilo que dibuja.
+ *
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ */
+class OverlayRendimiento {
+    private static final int PERIODO_MUESTRA_MILIS = 250;
+    private static final long PERIODO_MUESTRA_NANOS = PERIODO_MUESTRA_MILIS * 1_000_000L;
+    /** Muestras en las líneas de evolución: 15 segundos */
+    private static final int MUESTRAS = 60;
+    private static final int PAUSAS_MOSTRADAS = 5;
+    private static final int ANCHO = 270;
+    private static final int ALTO = 160;
+    private static final int MARGEN = 8;
+    private static final int RELLENO = 6;
+    private static final int ALTO_LINEA = 14;
+    private static final int ALTO_GRAFICO = 24;
+    private static final Color COLOR_FONDO = new Color(0, 0, 0, 180);
+    private static final Color COLOR_TEXTO = new Color(230, 230, 230);
+    private static final Color COLOR_P50 = new Color(80, 220, 80);
+    private static final Color COLOR_P99 = new Color(255, 170, 0);
+
+    private static volatile boolean visible;
+
+    private final PausasGc pausasGc = PausasGc.global();
+    private MetricasJuego metricas;
+    private VentanaHistograma ventanaTick;
+    private VentanaHistograma ventanaPintado;
+
+    // Muestra en curso
+    private long inicioMuestra = -1;
+    private long fotogramas;
+    private long tickInicial;
+    private long bytesIniciales;
+
+    // Resultado de la última muestra
+    private double fotogramasPorSegundo;
+    private double ticksPorSegundo;
+    private double megabytesPorSegundo;
+    private final float[] tickP50 = new float[MUESTRAS];
+    private final float[] tickP99 = new float[MUESTRAS];
+    private final float[] pintadoP50 = new float[MUESTRAS];
+    private final float[] pintadoP99 = new float[MUESTRAS];
+    /** Cantidad de muestras válidas en las líneas de evolución */
+    private int muestras;
+    /** Posición circular donde se guarda la próxima muestra */
+    private int proxima;
+    private final long[] pausas = new long[PAUSAS_MOSTRADAS];
+
+    private BufferedImage imagen;
+    private Graphics2D graficosImagen;
+    private GraphicsConfiguration configuracion;
+    private final Font fuente = new Font(Font.MONOSPACED, Font.PLAIN, 12);
+    private final char[] texto = new char[64];
+    private int largo;
+
+    /**
+     * Muestra u oculta la capa. Puede llamarse desde cualquier hilo.
+     */
+    static void alternar() {
+        visible = !visible;
+    }
+
+    /**
+     * Cuenta el fotograma y, si la capa está visible, la dibuja en la esquina superior
+     * derecha, tomando antes una muestra si ya pasó el periodo.
+     *
+     * @param g Destino del dibujo
+     * @param estado Instantánea que se está dibujando
+     * @param metricas Métricas del juego, o null si no hay
+     * @param ancho Ancho del área de dibujo
+     */
+    void dibujar(Graphics2D g, EstadoJuegoDTO estado, MetricasJuego metricas, int ancho) {
+        if (!visible || metricas == null) {
+            // Al volver a mostrarse, la primera muestra empieza de cero
+            inicioMuestra = -1;
+            return;
+        }
+        if (metricas != this.metricas) {
+            this.metricas = metricas;
+            ventanaTick = new VentanaHistograma(metricas.getTick());
+            ventanaPintado = new VentanaHistograma(metricas.getPintado());
+            muestras = 0;
+            inicioMuestra = -1;
+        }
+
+        long ahora = System.nanoTime();
+        fotogramas++;
+        boolean recomponer = false;
+        if (inicioMuestra < 0) {
+            ventanaTick.avanzar();
+            ventanaPintado.avanzar();
+            comenzarMuestra(estado, ahora);
+        } else if (ahora - inicioMuestra >= PERIODO_MUESTRA_NANOS) {
+            tomarMuestra(estado, ahora);
+            comenzarMuestra(estado, ahora);
+            recomponer = true;
+        }
+
+        GraphicsConfiguration actual = g.getDeviceConfiguration();
+        if (imagen == null || actual != configuracion) {
+            crear(actual);
+            recomponer = true;
+        }
+        if (recomponer) {
+            componer();
+        }
+        g.drawImage(imagen, ancho - ANCHO - MARGEN, MARGEN, null);
+    }
+
+    private void comenzarMuestra(EstadoJuegoDTO estado, long ahora) {
+        inicioMuestra = ahora;
+        fotogramas = 0;
+        tickInicial = estado.getNumeroTick();
+        bytesIniciales = metricas.getBytesAsignados();
+    }
+
+    private void tomarMuestra(EstadoJuegoDTO estado, long ahora) {
+        double segundos = (ahora - inicioMuestra) / 1e9;
+        fotogramasPorSegundo = fotogramas / segundos;
+        ticksPorSegundo = Math.max(0, estado.getNumeroTick() - tickInicial) / segundos;
+        megabytesPorSegundo = Math.max(0, metricas.getBytesAsignados() - bytesIniciales) / segundos / (1 << 20);
+
+        ventanaTick.avanzar();
+        ventanaPintado.avanzar();
+        tickP50[proxima] = ventanaTick.getPercentil(50) / 1e6f;
+        tickP99[proxima] = ventanaTick.getPercentil(99) / 1e6f;
+        pintadoP50[proxima] = ventanaPintado.getPercentil(50) / 1e6f;
+        pintadoP99[proxima] = ventanaPintado.getPercentil(99) / 1e6f;
+        proxima = (proxima + 1) % MUESTRAS;
+        muestras = Math.min(muestras + 1, MUESTRAS);
+    }
+
+    /**
+     * Crea la imagen traslúcida de la capa y su contexto gráfico, que se conserva
+     * mientras no cambie la configuración gráfica.
+     */
+    private void crear(GraphicsConfiguration gc) {
+        if (graficosImagen != null) {
+            graficosImagen.dispose();
+            imagen.flush();
+        }
+        configuracion = gc;
+        imagen = gc.createCompatibleImage(ANCHO, ALTO, Transparency.TRANSLUCENT);
+        graficosImagen = imagen.createGraphics();
+        graficosImagen.setFont(fuente);
+        graficosImagen.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+    }
+
+    /**
+     * Vuelve a dibujar la capa con la última muestra.
+     */
+    private void componer() {
+        Graphics2D g = graficosImagen;
+        g.setComposite(AlphaComposite.Src);
+        g.setColor(COLOR_FONDO);
+        g.fillRect(0, 0, ANCHO, ALTO);
+        g.setComposite(AlphaComposite.SrcOver);
+
+        int y = RELLENO + ALTO_LINEA - 3;
+        limpiar().agregar("FPS ").agregar(fotogramasPorSegundo, 1)
+            .agregar("   ticks/s ").agregar(ticksPorSegundo, 1);
+        y = linea(g, y);
+
+        int ultima = (proxima + MUESTRAS - 1) % MUESTRAS;
+        limpiar().agregar("tick   p50 ").agregar(tickP50[ultima], 3)
+            .agregar("  p99 ").agregar(tickP99[ultima], 3).agregar(" ms");
+        y = linea(g, y);
+        y = grafico(g, y, tickP50, tickP99);
+
+        limpiar().agregar("dibujo p50 ").agregar(pintadoP50[ultima], 3)
+            .agregar("  p99 ").agregar(pintadoP99[ultima], 3).agregar(" ms");
+        y = linea(g, y);
+        y = grafico(g, y, pintadoP50, pintadoP99);
+
+        limpiar().agregar("asignacion ").agregar(megabytesPorSegundo, 1).agregar(" MB/s");
+        y = linea(g, y);
+
+        int copiadas = pausasGc.copiarRecientes(pausas);
+        limpiar().agregar("GC ").agregar(pausasGc.getCantidad()).agregar("  ultimas:");
+        for (int k = 0; k < copiadas && k < PAUSAS_MOSTRADAS; k++) {
+            agregar(" ").agregar(pausas[k] / 1_000_000);
+        }
+        agregar(copiadas > 0 ? " ms" : " -");
+        y = linea(g, y);
+
+        limpiar().agregar("enemigos ").agregar(metricas.getEnemigosVivos())
+            .agregar("  proy ").agregar(metricas.getProyectilesJugador() + metricas.getProyectilesEnemigos())
+            .agregar("  muros ").agregar(metricas.getBloquesMuroVivos());
+        linea(g, y);
+    }
+
+    /** Dibuja el texto armado y devuelve la línea base de la siguiente */
+    private int linea(Graphics2D g, int y) {
+        g.setColor(COLOR_TEXTO);
+        g.drawChars(texto, 0, largo, RELLENO, y);
+        return y + ALTO_LINEA;
+    }
+
+    /**
+     * Dibuja la evolución de un percentil 50 y uno 99, de la muestra más vieja a la más
+     * nueva, escalada al mayor valor del 99.
+     *
+     * @return Línea base del texto que sigue al gráfico
+     */
+    private int grafico(Graphics2D g, int y, float[] p50, float[] p99) {
+        int arriba = y - ALTO_LINEA + 4;
+        float escala = 1e-3f;
+        for (int k = 0; k < muestras; k++) {
+            escala = Math.max(escala, p99[k]);
+        }
+        int ancho = ANCHO - 2 * RELLENO;
+        int primera = (proxima + MUESTRAS - muestras) % MUESTRAS;
+        for (int k = 1; k < muestras; k++) {
+            int anterior = (primera + k - 1) % MUESTRAS;
+            int actual = (primera + k) % MUESTRAS;
+            int x0 = RELLENO + (k - 1) * ancho / (MUESTRAS - 1);
+            int x1 = RELLENO + k * ancho / (MUESTRAS - 1);
+            g.setColor(COLOR_P99);
+            g.drawLine(x0, altura(arriba, p99[anterior], escala), x1, altura(arriba, p99[actual], escala));
+            g.setColor(COLOR_P50);
+            g.drawLine(x0, altura(arriba, p50[anterior], escala), x1, altura(arriba, p50[actual], escala));
+        }
+        return y + ALTO_GRAFICO + 4;
+    }
+
+    private static int altura(int arriba, float valor, float escala) {
+        return arriba + ALTO_GRAFICO - Math.round(valor / escala * ALTO_GRAFICO);
+    }
+
+    private OverlayRendimiento limpiar() {
+        largo = 0;
+        return this;
+    }
+
+    private OverlayRendimiento agregar(String literal) {
+        int n = Math.min(literal.length(), texto.length - largo);
+        literal.getChars(0, n, texto, largo);
+        largo += n;
+        return this;
+    }
+
+    private OverlayRendimiento agregar(long valor) {
+        if (valor < 0) {
+            agregar("-");
+            valor = -valor;
+        }
+        int inicio = largo;
+        do {
+            if (largo == texto.length) break;
+            texto[largo++] = (char) ('0' + valor % 10);
+            valor /= 10;
+        } while (valor > 0);
+        // Los dígitos quedaron del menos significativo al más significativo
+        for (int i = inicio, j = largo - 1; i < j; i++, j--) {
+            char c = texto[i];
+            texto[i] = texto[j];
+            texto[j] = c;
+        }
+        return this;
+    }
+
+    private OverlayRendimiento agregar(double valor, int decimales) {
+        long escala = 1;
+        for (int d = 0; d < decimales; d++) {
+            escala *= 10;
+        }
+        long redondeado = Math.round(Math.abs(valor) * escala);
+        if (valor < 0 && redondeado > 0) {
+            agregar("-");
+        }
+        agregar(redondeado / escala);
+        if (decimales > 0 && largo < texto.length) {
+            texto[largo++] = '.';
+            long fraccion = redondeado % escala;
+            for (long d = escala / 10; d > 0 && largo < texto.length; d /= 10) {
+                texto[largo++] = (char) ('0' + fraccion / d % 10);
+            }
+        }
+        return this;
+    }
+}
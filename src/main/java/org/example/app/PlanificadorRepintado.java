@@ -0,0 +1,71 @@
+package org.example.app;
+
+import org.example.metricas.MetricasJuego;
+
+import javax.swing.JComponent;
+import javax.swing.SwingUtilities;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Planifica los repintados de un componente en el hilo de eventos, con a lo sumo una
+ * solicitud pendiente en la cola.
+ *
+ * <p>Si llega una solicitud mientras la anterior todavía espera su turno en el hilo de
+ * eventos, no se encola otra: la pendiente dibujará el estado más reciente cuando se
+ * ejecute, y la nueva se cuenta como descartada en las {@link MetricasJuego}. Así, cuando dibujar es más lento que
+ * simular baja la frecuencia de fotogramas, pero la cola no se llena de repintados
+ * redundantes que demoren los eventos del teclado.
+ *
+ * <p>La marca de pendiente se limpia antes de dibujar, de modo que una solicitud que
+ * llega durante el dibujo programa el fotograma siguiente.
+ *
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ */
+class PlanificadorRepintado {
+    private final JComponent componente;
+    /** Se ejecuta después de cada fotograma dibujado */
+    private final Runnable alPintar;
+    private final AtomicBoolean pendiente = new AtomicBoolean(false);
+    private volatile MetricasJuego metricas;
+    private final Runnable pintar = this::pintar;
+
+    /**
+     * @param componente Componente a repintar
+     * @param alPintar Acción a ejecutar en el hilo de eventos después de cada fotograma dibujado
+     */
+    PlanificadorRepintado(JComponent componente, Runnable alPintar) {
+        this.componente = componente;
+        this.alPintar = alPintar;
+    }
+
+    /**
+     * @param metricas Destino de la cuenta de solicitudes; null para no contarlas
+     */
+    void setMetricas(MetricasJuego metricas) {
+        this.metricas = metricas;
+    }
+
+    /**
+     * Solicita un fotograma. Puede llamarse desde cualquier hilo y nunca bloquea.
+     */
+    void solicitar() {
+        boolean encolar = pendiente.compareAndSet(false, true);
+        MetricasJuego m = metricas;
+        if (m != null) {
+            m.registrarSolicitudFotograma(!encolar);
+        }
+        if (encolar) {
+            SwingUtilities.invokeLater(pintar);
+        }
+    }
+
+    private void pintar() {
+        pendiente.set(false);
+        if (!componente.isShowing()) {
+            return;
+        }
+        componente.paintImmediately(0, 0, componente.getWidth(), componente.getHeight());
+        alPintar.run();
+    }
+}
@@ -0,0 +1,224 @@
+package org.example.app;
+
+import org.example.metricas.MetricasJuego;
+import org.example.metricas.MetricasLatencia;
+import org.example.modelo.EstadoJuegoDTO;
+
+import java.awt.*;
+
+/**
+ * Dibuja una instantánea del juego sobre un {@link Graphics2D} cualquiera.
+ *
+ * <p>Lo comparten el panel de Swing, que dibuja desde el hilo de eventos, y el lienzo
+ * de renderizado activo, que dibuja desde su propio hilo. Conserva la copia de los
+ * muros entre fotogramas, por lo que cada instancia debe usarse siempre desde el
+ * mismo hilo.
+ *
+ * <p>Las naves y los proyectiles se dibujan desde una {@link CacheSprites}, y la franja
+ * de escudos con sus muros desde una {@link CapaMuros}.
+ *
+ * <p>Si se le asignan {@link MetricasLatencia}, quien lo usa debe llamar a
+ * {@link #registrarPresentacion()} cuando el fotograma llega a la pantalla; entonces se
+ * registra cuánto tardó la instantánea, y la última pulsación que refleja, en mostrarse.
+ * Si se le asignan {@link MetricasJuego}, registra en ellas la duración de cada dibujo y
+ * lo que asignó, y las muestra en el {@link OverlayRendimiento} cuando está visible.
+ *
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ */
+class RenderizadorJuego {
+    /** Bloques de muro retenidos; las instantáneas sólo traen los que cambian */
+    private final CopiaMuros copiaMuros = new CopiaMuros();
+    private final CacheSprites sprites = new CacheSprites();
+    private final CapaMuros capaMuros = new CapaMuros();
+    private final OverlayRendimiento overlay = new OverlayRendimiento();
+    private long ultimoNumero = -1;
+    private volatile MetricasLatencia metricas;
+    private volatile MetricasJuego metricasJuego;
+    /** Última instantánea dibujada, pendiente de registrar su presentación */
+    private EstadoJuegoDTO ultimaDibujada;
+    private long ultimoNumeroPresentado = -1;
+    private long ultimaEntradaPresentada = 0;
+
+    /**
+     * Dibuja el estado completo, incluido el fondo.
+     *
+     * @param g Destino del dibujo
+     * @param estado Instantánea a dibujar, con su factor de interpolación
+     * @param ancho Ancho del área de dibujo
+     * @param alto Alto del área de dibujo
+     */
+    void renderizar(Graphics2D g, EstadoJuegoDTO estado, int ancho, int alto) {
+        long bytes = MetricasJuego.bytesAsignadosDelHilo();
+        long inicio = System.nanoTime();
+        dibujar(g, estado, ancho, alto);
+        MetricasJuego m = metricasJuego;
+        overlay.dibujar(g, estado, m, ancho);
+        if (m != null) {
+            m.getPintado().registrarDesde(inicio);
+            m.sumarBytesAsignados(MetricasJuego.bytesAsignadosDelHilo() - bytes);
+        }
+    }
+
+    private void dibujar(Graphics2D g, EstadoJuegoDTO estado, int ancho, int alto) {
+        registrarNumero(estado.getNumero());
+        ultimaDibujada = estado;
+        copiaMuros.aplicar(estado.getCambiosMuros());
+        sprites.prepararFotograma(g);
+
+        // Fondo negro
+        g.setColor(Color.black);
+        g.fillRect(0, 0, ancho, alto);
+
+        String estadoStr = estado.getEstado();
+
+        if ("EN_JUEGO".equals(estadoStr)) {
+            renderizarEnJuego(g, estado, estado.getAlfa(), ancho, alto);
+        } else if ("TRANSICION_NIVEL".equals(estadoStr)) {
+            renderizarTransicionNivel(g, estado, ancho, alto);
+        } else if ("MENU".equals(estadoStr)) {
+            renderizarMenu(g, ancho, alto);
+        } else if ("GAME_OVER".equals(estadoStr)) {
+            renderizarGameOver(g, estado, ancho, alto);
+        }
+    }
+
+    /**
+     * Cuenta las instantáneas que se publicaron pero nunca llegaron a dibujarse,
+     * detectando saltos en la numeración.
+     */
+    private void registrarNumero(long numero) {
+        if (numero == ultimoNumero) return;
+        if (ultimoNumero >= 0 && numero > ultimoNumero + 1) {
+            MetricasJuego m = metricasJuego;
+            if (m != null) {
+                m.sumarInstantaneasOmitidas(numero - ultimoNumero - 1);
+            }
+        }
+        ultimoNumero = numero;
+    }
+
+    /**
+     * Registra que el último fotograma dibujado ya se presentó. Sólo cuenta la primera
+     * presentación de cada instantánea y de cada evento de entrada, aunque se dibujen
+     * varias veces.
+     */
+    void registrarPresentacion() {
+        MetricasJuego juego = metricasJuego;
+        if (juego != null) {
+            juego.registrarFotogramaPresentado();
+        }
+        MetricasLatencia m = metricas;
+        EstadoJuegoDTO estado = ultimaDibujada;
+        if (m == null || estado == null || estado.getNumero() == ultimoNumeroPresentado) return;
+        long ahora = System.nanoTime();
+        ultimoNumeroPresentado = estado.getNumero();
+        m.getInstantaneaAPantalla().registrar(ahora - estado.getInstanteArmado());
+        if (estado.getIdEntrada() > ultimaEntradaPresentada) {
+            ultimaEntradaPresentada = estado.getIdEntrada();
+            m.getEntradaAPantalla().registrar(ahora - estado.getInstanteEntrada());
+        }
+    }
+
+    /**
+     * @param metricas Destino de las latencias de presentación; null para no medirlas
+     */
+    void setMetricasLatencia(MetricasLatencia metricas) {
+        this.metricas = metricas;
+    }
+
+    /**
+     * @param metricasJuego Destino de la duración de cada dibujo; null para no medirla
+     */
+    void setMetricasJuego(MetricasJuego metricasJuego) {
+        this.metricasJuego = metricasJuego;
+    }
+
+    private void renderizarEnJuego(Graphics2D g, EstadoJuegoDTO estado, double alfa, int ancho, int alto) {
+        // Renderizar nave del jugador
+        EstadoJuegoDTO.DatosNaveJugador naveJugador = estado.getNaveJugador();
+        if (naveJugador != null) {
+            renderizarNaveJugador(g, naveJugador, alfa);
+        }
+
+        // Renderizar enemigos
+        for (EstadoJuegoDTO.DatosNaveEnemiga enemigo : estado.getEnemigos()) {
+            renderizarNaveEnemiga(g, enemigo, alfa);
+        }
+
+        // Franja de escudos y muros, desde la capa retenida
+        capaMuros.dibujar(g, copiaMuros, ancho, alto);
+
+        // Renderizar proyectiles
+        for (EstadoJuegoDTO.DatosProyectil proyectil : estado.getProyectiles()) {
+            sprites.dibujar(g, CacheSprites.TipoSprite.PROYECTIL, (int) proyectil.getX(), (int) proyectil.getY(alfa),
+                            proyectil.getWidth(), proyectil.getHeight(),
+                            proyectil.isFromPlayer() ? Color.cyan : Color.red);
+        }
+
+        // Renderizar HUD
+        EstadoJuegoDTO.DatosHUD hud = estado.getHud();
+        if (hud != null) {
+            renderizarHUD(g, hud);
+        }
+    }
+
+    private void renderizarNaveJugador(Graphics2D g, EstadoJuegoDTO.DatosNaveJugador datos, double alfa) {
+        sprites.dibujar(g, CacheSprites.TipoSprite.NAVE_JUGADOR, (int) datos.getX(alfa), (int) datos.getY(alfa),
+                        datos.getWidth(), datos.getHeight(), Color.green);
+    }
+
+    private void renderizarNaveEnemiga(Graphics2D g, EstadoJuegoDTO.DatosNaveEnemiga datos, double alfa) {
+        sprites.dibujar(g, CacheSprites.TipoSprite.NAVE_ENEMIGA, (int) datos.getX(alfa), (int) datos.getY(alfa),
+                        datos.getWidth(), datos.getHeight(), Color.red);
+    }
+
+    private void renderizarHUD(Graphics2D g, EstadoJuegoDTO.DatosHUD hud) {
+        g.setColor(Color.white);
+        g.setFont(g.getFont().deriveFont(20f));
+        g.drawString("Score: " + hud.getPuntuacion(), 16, 28);
+        g.drawString("Nivel: " + hud.getNivel(), 16, 52);
+
+        // Vidas debajo del nivel
+        int circles = hud.getVidas();
+        int size = 16;
+        int pad = 6;
+        int startX = 16;
+        int startY = 76;
+        for (int i = 0; i < circles; i++) {
+            int x = startX + i * (size + pad);
+            g.setColor(Color.green);
+            g.fillOval(x, startY, size, size);
+            g.setColor(Color.white);
+            g.drawOval(x, startY, size, size);
+        }
+    }
+
+    private void renderizarTransicionNivel(Graphics2D g, EstadoJuegoDTO estado, int ancho, int alto) {
+        g.setColor(Color.black);
+        g.fillRect(0, 0, ancho, alto);
+        g.setColor(Color.white);
+        g.setFont(g.getFont().deriveFont(36f));
+        String msg = "Nivel " + estado.getNivelActual();
+        int textWidth = g.getFontMetrics().stringWidth(msg);
+        g.drawString(msg, (ancho - textWidth) / 2, alto / 2);
+    }
+
+    private void renderizarMenu(Graphics2D g, int ancho, int alto) {
+        g.setColor(Color.white);
+        g.setFont(g.getFont().deriveFont(22f));
+        g.drawString("Space Invaders - Presiona Enter", ancho / 2 - 160, alto / 2);
+    }
+
+    private void renderizarGameOver(Graphics2D g, EstadoJuegoDTO estado, int ancho, int alto) {
+        EstadoJuegoDTO.DatosHUD hud = estado.getHud();
+        if (hud == null) return;
+
+        g.setColor(Color.red);
+        g.setFont(g.getFont().deriveFont(36f));
+        g.drawString("GAME OVER", ancho / 2 - 120, alto / 2 - 20);
+        g.setColor(Color.white);
+        g.setFont(g.getFont().deriveFont(20f));
+        g.drawString("Puntaje: " + hud.getPuntuacion(), ancho / 2 - 80, alto / 2 + 18);
+    }
+}
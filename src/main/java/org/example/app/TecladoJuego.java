@@ -0,0 +1,114 @@
+package org.example.app;
+
+import org.example.modelo.entrada.Accion;
+import org.example.modelo.entrada.AnilloEntrada;
+
+import java.awt.event.FocusEvent;
+import java.awt.event.FocusListener;
+import java.awt.event.KeyAdapter;
+import java.awt.event.KeyEvent;
+import java.util.BitSet;
+
+/**
+ * Traduce las teclas físicas a acciones del modelo ({@link Accion}) y publica cada
+ * cambio, con su instante, en un {@link AnilloEntrada}. Se registra como listener del
+ * componente que recibe el foco durante la partida.
+ *
+ * <p>Sólo se publican los cambios de estado de una acción: la repetición automática del
+ * teclado, o presionar una segunda tecla de la misma acción, no generan eventos.
+ *
+ * <p>También escucha el foco del componente: al perderlo, el componente ya no recibirá
+ * las teclas que se suelten, así que se dan por soltadas todas.
+ *
+ * <p>F3 muestra u oculta el {@link OverlayRendimiento}.
+ *
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ */
+class TecladoJuego extends KeyAdapter implements FocusListener {
+    private static final Accion[] ACCIONES = Accion.values();
+
+    /** Teclas presionadas, indexadas por código; sólo se accede desde el hilo de eventos */
+    private final BitSet pressedKeys = new BitSet();
+    /** Último estado publicado de cada acción, indexado por ordinal */
+    private final boolean[] accionesActivas = new boolean[ACCIONES.length];
+    private final AnilloEntrada entrada = new AnilloEntrada();
+
+    @Override
+    public void keyPressed(KeyEvent e) {
+        // F3 no es una acción del juego; la repetición automática no vuelve a alternar
+        if (e.getKeyCode() == KeyEvent.VK_F3 && !pressedKeys.get(KeyEvent.VK_F3)) {
+            OverlayRendimiento.alternar();
+        }
+        pressedKeys.set(e.getKeyCode());
+        actualizarAccion(e.getKeyCode());
+    }
+
+    @Override
+    public void keyReleased(KeyEvent e) {
+        pressedKeys.clear(e.getKeyCode());
+        actualizarAccion(e.getKeyCode());
+    }
+
+    @Override
+    public void focusGained(FocusEvent e) {
+        // Las teclas se vuelven a registrar a medida que se presionan
+    }
+
+    @Override
+    public void focusLost(FocusEvent e) {
+        pressedKeys.clear();
+        for (Accion accion : ACCIONES) {
+            if (accionesActivas[accion.ordinal()] && entrada.publicar(accion, false, System.nanoTime())) {
+                accionesActivas[accion.ordinal()] = false;
+            }
+        }
+    }
+
+    /**
+     * Traduce una tecla física a la acción del juego que controla.
+     *
+     * @param keyCode Código de tecla de AWT
+     * @return Acción asociada, o null si la tecla no controla el juego
+     */
+    private static Accion accionDeTecla(int keyCode) {
+        switch (keyCode) {
+            case KeyEvent.VK_LEFT:
+            case KeyEvent.VK_A:
+                return Accion.IZQUIERDA;
+            case KeyEvent.VK_RIGHT:
+            case KeyEvent.VK_D:
+                return Accion.DERECHA;
+            case KeyEvent.VK_SPACE:
+                return Accion.DISPARAR;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Recalcula el estado de la acción asociada a la tecla: la acción sigue activa
+     * mientras quede presionada alguna de las teclas que la controlan. Si cambió, publica
+     * el evento.
+     */
+    private void actualizarAccion(int keyCode) {
+        Accion accion = accionDeTecla(keyCode);
+        if (accion == null) return;
+        boolean activa = false;
+        for (int tecla = pressedKeys.nextSetBit(0); tecla >= 0; tecla = pressedKeys.nextSetBit(tecla + 1)) {
+            if (accionDeTecla(tecla) == accion) {
+                activa = true;
+                break;
+            }
+        }
+        // Si el anillo estaba lleno, el cambio se vuelve a intentar en el próximo evento
+        if (accionesActivas[accion.ordinal()] != activa
+                && entrada.publicar(accion, activa, System.nanoTime())) {
+            accionesActivas[accion.ordinal()] = activa;
+        }
+    }
+
+    AnilloEntrada getEntrada() {
+        return entrada;
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.controlador;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Buffer triple sin bloqueos para pasar fotogramas de un único productor a un único consumidor.
+ *
+ * <p>Mantiene tres casilleros: uno que sólo usa el escritor, uno que sólo usa el lector y
+ * uno intermedio que se intercambia de forma atómica. El escritor nunca espera al lector y
+ * el lector siempre obtiene el último fotograma completo publicado, sin ver fotogramas a
+ * medio construir. Si el escritor publica más rápido de lo que el lector consume, los
+ * fotogramas intermedios simplemente se descartan.
+ *
+ * <p>Los valores publicados no deben modificarse después de {@link #publicar(Object)}.
+ * {@link #publicar(Object)} debe llamarse siempre desde el mismo hilo, y {@link #leer()}
+ * también.
+ *
+ * @param <T> Tipo de fotograma
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ */
+public class BufferTriple<T> {
+    /** Bit que indica que el casillero intermedio tiene un fotograma que el lector aún no tomó */
+    private static final int NUEVO = 0b100;
+    private static final int INDICE = 0b011;
+
+    private final Object[] casilleros = new Object[3];
+    /** Índice del casillero intermedio, más el bit NUEVO */
+    private final AtomicInteger intermedio = new AtomicInteger(1);
+    /** Casillero propiedad del escritor */
+    private int escritura = 0;
+    /** Casillero propiedad del lector */
+    private int lectura = 2;
+
+    /**
+     * Publica un fotograma completo. Nunca bloquea.
+     *
+     * @param fotograma Fotograma a publicar
+     * @return true si el fotograma publicado anteriormente se descartó sin ser leído
+     */
+    public boolean publicar(T fotograma) {
+        casilleros[escritura] = fotograma;
+        // getAndSet publica el casillero con semántica volatile: el lector que lo tome
+        // verá el fotograma completo
+        int anterior = intermedio.getAndSet(escritura | NUEVO);
+        escritura = anterior & INDICE;
+        return (anterior & NUEVO) != 0;
+    }
+
+    /**
+     * Obtiene el último fotograma publicado. Nunca bloquea.
+     *
+     * @return Último fotograma completo, o null si todavía no se publicó ninguno
+     */
+    @SuppressWarnings("unchecked")
+    public T leer() {
+        if ((intermedio.get() & NUEVO) != 0) {
+            int anterior = intermedio.getAndSet(lectura);
+            lectura = anterior & INDICE;
+        }
+        return (T) casilleros[lectura];
+    }
+
+    /**
+     * Indica si hay un fotograma publicado que el lector todavía no tomó.
+     */
+    public boolean hayNuevo() {
+        return (intermedio.get() & NUEVO) != 0;
+    }
+}
@@ -1,8 +1,14 @@
 package org.example.controlador;
 
+import org.example.metricas.HistogramaLatencia;
+import org.example.metricas.MetricasLatencia;
+import org.example.metricas.eventos.EventoInstantanea;
+import org.example.modelo.EstadoJuegoDTO;
 import org.example.modelo.Juego;
+import org.example.modelo.entrada.EstadoEntrada;
 import org.example.vista.*;
 import javax.swing.*;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * Controlador principal que gestiona el flujo de la aplicación y coordina
@@ -12,11 +18,35 @@ import javax.swing.*;
  * <ul>
  *   <li>Gestión del ciclo de vida de la aplicación</li>
  *   <li>Coordinación entre diferentes paneles (menú, juego, ranking, game over)</li>
- *   <li>Bucle de juego principal con actualización a 60 FPS</li>
+ *   <li>Bucle de juego principal con simulación a paso fijo (60/120/240 Hz) y renderizado a
+ *       ritmo constante (60 FPS por defecto), marcado por {@link MarcapasosFotogramas}</li>
  *   <li>Detección de fin de partida y procesamiento del ranking</li>
  *   <li>Gestión de hilos para el bucle de juego</li>
  * </ul>
  * 
+ * <p>El modelo sólo se toca desde el hilo del juego. Al terminar los ticks de cada
+ * fotograma ese hilo arma una instantánea inmutable del estado y la publica en un
+ * {@link BufferTriple}; la vista toma siempre la última instantánea completa desde su
+ * hilo de dibujo (el EDT o, con renderizado activo, un hilo propio), sin bloquear y sin
+ * recorrer el modelo mientras éste se modifica.
+ * 
+ * <p>En sentido inverso, la vista publica los eventos del teclado con su instante en un
+ * {@link org.example.modelo.entrada.AnilloEntrada}; al comienzo de cada tick el hilo del
+ * juego vuelca los ocurridos hasta el final de ese tick en su propio {@link EstadoEntrada}.
+ * Cada evento, cada tick y cada instantánea llevan identificadores e instantes con los
+ * que se miden, en {@link MetricasLatencia}, los tramos desde la pulsación hasta la
+ * pantalla. La duración de cada fase del tick y del dibujo se mide en las métricas del
+ * juego, que se publican por JMX ({@link org.example.metricas.MetricasJuegoMXBean}) junto
+ * con esos tramos y la duración de los fotogramas.
+ * Cada publicación de instantánea emite además un evento de JFR
+ * ({@link EventoInstantanea}), para ubicar en una grabación en qué fase del bucle
+ * cayó una pausa de GC.
+ * 
+ * <p>Mientras la ventana está sin foco o minimizada, el hilo del juego queda estacionado
+ * sin simular ni pedir fotogramas, y al reanudarse descarta el tiempo de la pausa. Durante
+ * la pantalla fija de transición de nivel también se estaciona, hasta que la transición
+ * termina, en lugar de repetir fotogramas iguales.
+ * 
  * <p>Utiliza el patrón MVC (Modelo-Vista-Controlador) donde:
  * <ul>
  *   <li>Modelo: Clase Juego que contiene la lógica del juego</li>
@@ -32,27 +62,118 @@ import javax.swing.*;
  * @version 1.0
  */
 public class ControladorJuego {
+    /** Frecuencias de simulación soportadas, en ticks por segundo */
+    public static final int[] TICKS_POR_SEGUNDO_SOPORTADOS = {60, 120, 240};
+    /** Frecuencia de renderizado por defecto */
+    private static final int FPS_POR_DEFECTO = 60;
+    /** Tiempo máximo por fotograma que se espera girando, por defecto, en microsegundos */
+    private static final int GIRO_MICROS_POR_DEFECTO = 1000;
+    /**
+     * Máximo de ticks que se simulan en un mismo fotograma para ponerse al día.
+     * Si el atraso es mayor se descarta, evitando la espiral en la que cada fotograma
+     * tarda más porque debe simular todavía más ticks.
+     */
+    private static final int MAX_TICKS_POR_FOTOGRAMA = 5;
+
     private final Juego juego;
+    private final int ticksPorSegundo;
     private IVistaJuego vistaJuego;
     private IVistaMenu vistaMenu;
     private IVistaPrincipal vistaPrincipal;
     private volatile boolean running = false;
+    /** La ventana tiene foco y no está minimizada; la actualiza el hilo de eventos */
+    private volatile boolean ventanaActiva = true;
     private boolean enJuego = false;
     private Thread gameThread;
     private boolean gameOverProcesado = false;
+    private BufferTriple<EstadoJuegoDTO> bufferEstado;
+    /** Última instantánea publicada; sólo la usa el hilo del bucle de juego */
+    private EstadoJuegoDTO ultimaInstantanea;
+    private final MetricasLatencia metricasLatencia = new MetricasLatencia();
+    /** Sólo lo usa el hilo del bucle de juego */
+    private final MarcapasosFotogramas marcapasos;
 
+    /**
+     * Crea el controlador con la frecuencia de simulación indicada por la propiedad
+     * de sistema {@code invaders.ticks} (60 por defecto).
+     * 
+     * <p>La frecuencia de fotogramas se toma de {@code invaders.fps} (60 por defecto) y el
+     * presupuesto de giro del marcapasos, en microsegundos, de {@code invaders.giroMicros}
+     * (1000 por defecto; 0 para esperar sólo estacionando el hilo).
+     */
     public ControladorJuego() {
+        this(Integer.getInteger("invaders.ticks", 60));
+    }
+
+    /**
+     * Crea el controlador con una frecuencia de simulación fija.
+     * 
+     * @param ticksPorSegundo Ticks de simulación por segundo (60, 120 o 240)
+     * @throws IllegalArgumentException si la frecuencia no está soportada
+     */
+    public ControladorJuego(int ticksPorSegundo) {
+        if (!esFrecuenciaSoportada(ticksPorSegundo)) {
+            throw new IllegalArgumentException("Frecuencia de simulación no soportada: " + ticksPorSegundo);
+        }
+        this.ticksPorSegundo = ticksPorSegundo;
         this.juego = new Juego();
+        this.juego.getMetricas().registrarEnPlataforma();
+        this.marcapasos = new MarcapasosFotogramas(
+            Integer.getInteger("invaders.fps", FPS_POR_DEFECTO),
+            Integer.getInteger("invaders.giroMicros", GIRO_MICROS_POR_DEFECTO) * 1_000L);
+        this.juego.getMetricas().agregarFases(
+            metricasLatencia.getEntradaATick(), metricasLatencia.getTickAInstantanea(),
+            metricasLatencia.getInstantaneaAPantalla(), metricasLatencia.getEntradaAPantalla(),
+            marcapasos.getDuracionFotogramas());
+    }
+
+    /**
+     * Obtiene las latencias medidas desde que se creó el controlador.
+     * 
+     * @return Histogramas de cada tramo entre la pulsación y la pantalla
+     */
+    public MetricasLatencia getMetricasLatencia() {
+        return metricasLatencia;
+    }
+
+    /**
+     * Obtiene la duración real de los fotogramas del bucle de juego, entre comienzos
+     * consecutivos, para comparar con el periodo objetivo.
+     * 
+     * @return Histograma de duración de fotogramas
+     */
+    public HistogramaLatencia getDuracionFotogramas() {
+        return marcapasos.getDuracionFotogramas();
+    }
+
+    private static boolean esFrecuenciaSoportada(int ticksPorSegundo) {
+        for (int soportada : TICKS_POR_SEGUNDO_SOPORTADOS) {
+            if (soportada == ticksPorSegundo) return true;
+        }
+        return false;
     }
 
     public void iniciar() {
         SwingUtilities.invokeLater(() -> {
             vistaPrincipal = VistaFactory.crearVistaPrincipal("Space Invaders", Juego.WIDTH, Juego.HEIGHT);
+            vistaPrincipal.agregarListenerActividad(this::cambiarActividad);
             mostrarMenu();
             vistaPrincipal.setVisible(true);
         });
     }
 
+    /**
+     * Registra si la ventana está activa y despierta al hilo del juego para que se
+     * estacione o se reanude. Se ejecuta en el hilo de eventos.
+     */
+    private void cambiarActividad(boolean activa) {
+        ventanaActiva = activa;
+        Thread hilo = gameThread;
+        if (hilo != null) {
+            LockSupport.unpark(hilo);
+        }
+    }
+
     private void mostrarMenu() {
         vistaMenu = VistaFactory.crearVistaMenu();
         vistaPrincipal.setContenido(vistaMenu.getComponent());
@@ -65,15 +186,24 @@ public class ControladorJuego {
         // Detener el bucle anterior si existe
         detenerBucle();
         gameOverProcesado = false;
-        
+
+        juego.inicializarPartida();
+        // Buffer nuevo por partida, con la instantánea inicial ya publicada para que
+        // el primer repintado no encuentre el buffer vacío
+        BufferTriple<EstadoJuegoDTO> buffer = new BufferTriple<>();
+        ultimaInstantanea = juego.obtenerEstadoParaRenderizado();
+        buffer.publicar(ultimaInstantanea);
+        bufferEstado = buffer;
+
         SwingUtilities.invokeLater(() -> {
             vistaJuego = VistaFactory.crearVistaJuego(Juego.WIDTH, Juego.HEIGHT);
-            vistaJuego.setProveedorEstado(() -> juego.obtenerEstadoParaRenderizado());
+            vistaJuego.setProveedorEstado(buffer::leer);
+            vistaJuego.setMetricasLatencia(metricasLatencia);
+            vistaJuego.setMetricasJuego(juego.getMetricas());
             vistaPrincipal.setContenido(vistaJuego.getComponent());
             vistaJuego.requestFocusInWindow();
         });
 
-        juego.inicializarPartida();
         enJuego = true;
         iniciarBucle();
     }
@@ -106,29 +236,113 @@ public class ControladorJuego {
         
         running = true;
         gameThread = new Thread(() -> {
-            final double targetFps = 60.0;
-            final double frameTime = 1.0 / targetFps;
-            long last = System.nanoTime();
+            // Bucle de paso fijo: el tiempo real se acumula y se consume en ticks de
+            // duración constante, de modo que el costo de cada tick, las pausas del GC
+            // o la latencia del planificador no alteran la física.
+            final long pasoNanos = 1_000_000_000L / ticksPorSegundo;
+            final double pasoSegundos = 1.0 / ticksPorSegundo;
+            // Estado de las acciones, propio de este hilo; se alimenta del anillo de la vista
+            final EstadoEntrada entrada = new EstadoEntrada(metricasLatencia.getEntradaATick());
+            long anterior = System.nanoTime();
+            long acumulado = 0;
+            marcapasos.reiniciar(anterior);
+            boolean enPausa = false;
             while (running && enJuego) {
-                long now = System.nanoTime();
-                double dt = (now - last) / 1_000_000_000.0;
-                last = now;
+                if (!ventanaActiva) {
+                    // Sin foco o minimizada: no simular ni pedir fotogramas hasta que
+                    // cambiarActividad() despierte al hilo
+                    enPausa = true;
+                    LockSupport.park(this);
+                    if (Thread.currentThread().isInterrupted()) {
+                        break;
+                    }
+                    continue;
+                }
+                if (enPausa) {
+                    // Descartar el tiempo en pausa para no ponerse al día de golpe
+                    enPausa = false;
+                    anterior = System.nanoTime();
+                    acumulado = 0;
+                    marcapasos.reiniciar(anterior);
+                }
+
+                long inicioFotograma = System.nanoTime();
+                acumulado += inicioFotograma - anterior;
+                anterior = inicioFotograma;
 
                 if (vistaJuego != null) {
-                    juego.update(dt, vistaJuego.getPressedKeys());
-                    SwingUtilities.invokeLater(() -> vistaJuego.repaint());
+                    int ticks = 0;
+                    long finPrimerTick = 0;
+                    // Los ticks de la transición de nivel sólo descuentan su temporizador:
+                    // se simulan sin límite el tiempo que el hilo pasó estacionado en ella
+                    while (acumulado >= pasoNanos
+                            && (ticks < MAX_TICKS_POR_FOTOGRAMA || juego.getTiempoTransicionRestante() > 0)) {
+                        // Instante real en que termina este tick: cada evento de teclado
+                        // se aplica en el tick en que ocurrió, aunque se simulen varios
+                        // ticks seguidos para ponerse al día
+                        long finTick = inicioFotograma - acumulado + pasoNanos;
+                        entrada.comenzarTick(vistaJuego.getEntrada(), finTick);
+                        juego.update(pasoSegundos, entrada);
+                        if (ticks == 0) {
+                            finPrimerTick = System.nanoTime();
+                        }
+                        acumulado -= pasoNanos;
+                        ticks++;
+                    }
+                    // Si se alcanzó el límite, descartar el atraso restante
+                    if (acumulado >= pasoNanos) {
+                        acumulado %= pasoNanos;
+                    }
+                    double alfa = (double) acumulado / pasoNanos;
+
+                    // Sólo la instantánea del último tick llega a verse: publicar una
+                    // por fotograma evita armar instantáneas que se descartarían
+                    if (ticks > 0) {
+                        EventoInstantanea evento = EventoInstantanea.habilitado() ? new EventoInstantanea() : null;
+                        if (evento != null) {
+                            evento.begin();
+                        }
+                        EstadoJuegoDTO instantanea = juego.obtenerEstadoParaRenderizado(!bufferEstado.hayNuevo(), alfa);
+                        bufferEstado.publicar(instantanea);
+                        ultimaInstantanea = instantanea;
+                        metricasLatencia.getTickAInstantanea().registrar(System.nanoTime() - finPrimerTick);
+                        if (evento != null) {
+                            evento.registrar(instantanea.getNumero(), ticks, instantanea.getEnemigos().size(),
+                                instantanea.getProyectiles().size(), instantanea.getCambiosMuros().getCantidad());
+                        }
+                    } else {
+                        // Sin ticks nuevos sólo avanza la interpolación: la misma
+                        // instantánea viaja con el factor de este fotograma
+                        ultimaInstantanea = ultimaInstantanea.conAlfa(alfa);
+                        bufferEstado.publicar(ultimaInstantanea);
+                    }
+                    vistaJuego.repaint();
                     
                     // Verificar si el juego terminó
                     if ("GAME_OVER".equals(juego.getEstado()) && !gameOverProcesado) {
                         gameOverProcesado = true;
                         procesarGameOver();
                     }
+
+                    // Pantalla de nivel fija: su fotograma ya se pidió, así que se espera
+                    // a que termine sin pedir otros. El tiempo queda acumulado
+                    long transicionNanos = (long) (juego.getTiempoTransicionRestante() * 1e9) - acumulado;
+                    if (transicionNanos > 0) {
+                        LockSupport.parkNanos(this, transicionNanos);
+                        if (Thread.currentThread().isInterrupted()) {
+                            break;
+                        }
+                        marcapasos.reiniciar(System.nanoTime());
+                        continue;
+                    }
+                } else {
+                    // La vista todavía no está lista: no acumular tiempo sin simular
+                    acumulado = 0;
                 }
 
-                long sleepNanos = (long) Math.max(0, (frameTime - dt) * 1_000_000_000L);
-                try {
-                    Thread.sleep(sleepNanos / 1_000_000, (int) (sleepNanos % 1_000_000));
-                } catch (InterruptedException ignored) {
+                // Esperar hasta el plazo del próximo fotograma (no un tiempo fijo desde
+                // ahora), para que los errores de cada espera no se acumulen
+                if (!marcapasos.esperarProximo()) {
                     break;
                 }
             }
@@ -0,0 +1,131 @@
+package org.example.controlador;
+
+import org.example.metricas.HistogramaLatencia;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Marca el ritmo de los fotogramas del bucle de juego con plazos absolutos.
+ *
+ * <p>Cada fotograma tiene un plazo fijo ({@code inicio + n * periodo}), de modo que los
+ * errores de un fotograma no se acumulan en los siguientes. La espera se hace en dos
+ * partes: la mayor parte con {@link LockSupport#parkNanos(long)}, que no consume CPU,
+ * y el final girando (cediendo el procesador con {@link Thread#yield()} mientras falta
+ * más de {@value #UMBRAL_CEDER_NANOS} ns y con {@link Thread#onSpinWait()} después).
+ *
+ * <p>El margen que se deja para el giro se calibra sobre la marcha: es el retraso con
+ * que suele despertar {@code parkNanos} en esta máquina, que sube en cuanto se observa
+ * un retraso mayor y baja lentamente. El presupuesto de giro acota ese margen; con
+ * presupuesto 0 no se gira nunca y sólo se estaciona el hilo.
+ *
+ * <p>Si un fotograma se atrasa más de un periodo completo, los plazos se vuelven a
+ * calcular desde el momento actual en lugar de encadenar fotogramas sin espera.
+ *
+ * <p>Sólo debe usarse desde el hilo del bucle de juego.
+ *
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ */
+class MarcapasosFotogramas {
+    /** Por encima de este tiempo restante se cede el procesador en lugar de girar */
+    private static final long UMBRAL_CEDER_NANOS = 100_000;
+
+    private final long periodoNanos;
+    private final long presupuestoGiroNanos;
+    /** Duración real entre el comienzo de fotogramas consecutivos */
+    private final HistogramaLatencia duracionFotogramas = new HistogramaLatencia("fotograma");
+    private long proximoPlazo;
+    private long comienzoAnterior;
+    /** Retraso estimado con que despierta parkNanos */
+    private long retrasoEstimado;
+
+    /**
+     * @param fotogramasPorSegundo Frecuencia objetivo
+     * @param presupuestoGiroNanos Máximo tiempo de espera que se hace girando en lugar de estacionar
+     */
+    MarcapasosFotogramas(int fotogramasPorSegundo, long presupuestoGiroNanos) {
+        if (fotogramasPorSegundo <= 0) {
+            throw new IllegalArgumentException("Frecuencia de fotogramas inválida: " + fotogramasPorSegundo);
+        }
+        this.periodoNanos = 1_000_000_000L / fotogramasPorSegundo;
+        this.presupuestoGiroNanos = Math.max(0, presupuestoGiroNanos);
+        this.retrasoEstimado = this.presupuestoGiroNanos;
+    }
+
+    /**
+     * Fija el comienzo del primer fotograma. Debe llamarse antes de la primera espera y
+     * cada vez que el bucle se reanuda después de estar detenido.
+     *
+     * @param ahora Instante actual, según {@link System#nanoTime()}
+     */
+    void reiniciar(long ahora) {
+        proximoPlazo = ahora + periodoNanos;
+        comienzoAnterior = ahora;
+    }
+
+    /**
+     * Espera hasta el plazo del próximo fotograma y registra la duración del que termina.
+     *
+     * @return false si el hilo fue interrumpido durante la espera
+     */
+    boolean esperarProximo() {
+        long plazo = proximoPlazo;
+        long margen = Math.min(retrasoEstimado, presupuestoGiroNanos);
+        long restante = plazo - System.nanoTime();
+
+        // Estacionar hasta poco antes del plazo, dejando el margen para el giro.
+        // parkNanos puede volver antes de tiempo, por eso se repite
+        while (restante > margen) {
+            long pedido = restante - margen;
+            LockSupport.parkNanos(this, pedido);
+            if (Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+            long despertar = System.nanoTime();
+            calibrar(despertar - (plazo - restante) - pedido);
+            restante = plazo - despertar;
+        }
+
+        // Girar el tramo final
+        while ((restante = plazo - System.nanoTime()) > 0) {
+            if (restante > UMBRAL_CEDER_NANOS) {
+                Thread.yield();
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+
+        long ahora = System.nanoTime();
+        duracionFotogramas.registrar(ahora - comienzoAnterior);
+        comienzoAnterior = ahora;
+        proximoPlazo = plazo + periodoNanos;
+        if (ahora - proximoPlazo > 0) {
+            // Atrasado más de un periodo: no intentar recuperar los fotogramas perdidos
+            proximoPlazo = ahora + periodoNanos;
+        }
+        return true;
+    }
+
+    /**
+     * Actualiza el retraso estimado de parkNanos: toma enseguida los retrasos mayores
+     * y olvida despacio (1/16 por fotograma) los menores. parkNanos también puede
+     * volver antes de tiempo; eso cuenta como retraso 0.
+     */
+    private void calibrar(long retraso) {
+        long observado = Math.max(0, retraso);
+        if (observado >= retrasoEstimado) {
+            retrasoEstimado = observado;
+        } else {
+            retrasoEstimado -= (retrasoEstimado - observado) >> 4;
+        }
+    }
+
+    /** Duración real de los fotogramas, entre comienzos consecutivos */
+    HistogramaLatencia getDuracionFotogramas() {
+        return duracionFotogramas;
+    }
+
+    long getPeriodoNanos() {
+        return periodoNanos;
+    }
+}
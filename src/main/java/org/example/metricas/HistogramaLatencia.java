@@ -0,0 +1,131 @@
+package org.example.metricas;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histograma de latencias en nanosegundos con cubetas log-lineales.
+ *
+ * <p>Cada potencia de dos se divide en {@value #SUBCUBETAS} cubetas de igual ancho, de
+ * modo que el error relativo de un percentil es a lo sumo 1/{@value #SUBCUBETAS}
+ * (alrededor del 3%) en todo el rango, desde nanosegundos hasta minutos, con una
+ * cantidad fija de contadores. Registrar un valor es calcular un índice con operaciones
+ * de bits e incrementar un contador: no crea objetos.
+ *
+ * <p>Puede registrarse y consultarse desde cualquier hilo. Las consultas hechas mientras
+ * otro hilo registra pueden no incluir los últimos valores.
+ *
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ */
+public class HistogramaLatencia {
+    private static final int BITS_SUBCUBETA = 5;
+    /** Cubetas en que se divide cada potencia de dos */
+    public static final int SUBCUBETAS = 1 << BITS_SUBCUBETA;
+    /** Alcanza para cualquier valor positivo de un long */
+    static final int CUBETAS = (64 - BITS_SUBCUBETA) * SUBCUBETAS;
+
+    private final String nombre;
+    private final AtomicLongArray conteos = new AtomicLongArray(CUBETAS);
+    private final AtomicLong cantidad = new AtomicLong();
+    private final AtomicLong suma = new AtomicLong();
+    private final AtomicLong maximo = new AtomicLong();
+
+    /**
+     * @param nombre Nombre con que se identifica el histograma en los resúmenes
+     */
+    public HistogramaLatencia(String nombre) {
+        this.nombre = nombre;
+    }
+
+    /**
+     * Registra una latencia. Los valores negativos se registran como 0.
+     *
+     * @param nanos Latencia en nanosegundos
+     */
+    public void registrar(long nanos) {
+        long valor = Math.max(0, nanos);
+        conteos.incrementAndGet(indice(valor));
+        cantidad.incrementAndGet();
+        suma.addAndGet(valor);
+        maximo.accumulateAndGet(valor, Math::max);
+    }
+
+    /**
+     * Registra el tiempo transcurrido desde un instante y devuelve el instante actual,
+     * para encadenar la medición de fases consecutivas.
+     *
+     * @param inicioNanos Comienzo de la fase, según {@link System#nanoTime()}
+     * @return Instante actual, que sirve de comienzo de la fase siguiente
+     */
+    public long registrarDesde(long inicioNanos) {
+        long ahora = System.nanoTime();
+        registrar(ahora - inicioNanos);
+        return ahora;
+    }
+
+    /**
+     * Obtiene la latencia por debajo de la cual queda el porcentaje indicado de los
+     * valores registrados, redondeada hacia arriba al borde de su cubeta.
+     *
+     * @param percentil Valor entre 0 y 100
+     * @return Latencia en nanosegundos, o 0 si no hay valores
+     */
+    public long getPercentil(double percentil) {
+        long total = cantidad.get();
+        if (total == 0) return 0;
+        long objetivo = Math.max(1, (long) Math.ceil(total * Math.min(100.0, percentil) / 100.0));
+        long acumulado = 0;
+        for (int i = 0; i < CUBETAS; i++) {
+            acumulado += conteos.get(i);
+            if (acumulado >= objetivo) {
+                return Math.min(limiteSuperior(i), maximo.get());
+            }
+        }
+        return maximo.get();
+    }
+
+    /** Cantidad de valores registrados en la cubeta indicada */
+    long getConteo(int indice) { return conteos.get(indice); }
+
+    public String getNombre() { return nombre; }
+    public long getCantidad() { return cantidad.get(); }
+    public long getMaximo() { return maximo.get(); }
+
+    /** Latencia promedio en nanosegundos, o 0 si no hay valores */
+    public double getPromedio() {
+        long total = cantidad.get();
+        return total == 0 ? 0 : (double) suma.get() / total;
+    }
+
+    /**
+     * Descarta todos los valores registrados.
+     */
+    public void reiniciar() {
+        for (int i = 0; i < CUBETAS; i++) {
+            conteos.set(i, 0);
+        }
+        cantidad.set(0);
+        suma.set(0);
+        maximo.set(0);
+    }
+
+    /**
+     * Índice de la cubeta de un valor: los valores menores que {@link #SUBCUBETAS} tienen
+     * una cubeta cada uno; a partir de ahí, cada potencia de dos se reparte en
+     * {@link #SUBCUBETAS} cubetas según los bits que siguen al más significativo.
+     */
+    static int indice(long valor) {
+        if (valor < SUBCUBETAS) return (int) valor;
+        int desplazamiento = 63 - Long.numberOfLeadingZeros(valor) - BITS_SUBCUBETA;
+        return ((desplazamiento + 1) << BITS_SUBCUBETA) + (int) ((valor >>> desplazamiento) & (SUBCUBETAS - 1));
+    }
+
+    /** Mayor valor que cae en la cubeta indicada */
+    static long limiteSuperior(int indice) {
+        if (indice < SUBCUBETAS) return indice;
+        int desplazamiento = (indice >>> BITS_SUBCUBETA) - 1;
+        long inferior = (long) (SUBCUBETAS + (indice & (SUBCUBETAS - 1))) << desplazamiento;
+        return inferior + (1L << desplazamiento) - 1;
+    }
+}
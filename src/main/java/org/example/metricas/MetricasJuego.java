@@ -0,0 +1,238 @@
+package org.example.metricas;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Duración de cada fase de la simulación y del dibujo, y cantidad de entidades vivas,
+ * medidas siempre mientras se juega.
+ *
+ * <p>Fases del tick ({@code Juego.update}):
+ * <ul>
+ *   <li><b>entrada</b>: movimiento y disparo de la nave del jugador</li>
+ *   <li><b>formacion</b>: movimiento y disparos de la formación enemiga</li>
+ *   <li><b>proyectiles</b>: integración de todos los proyectiles</li>
+ *   <li><b>colisiones</b>: resolución de colisiones</li>
+ *   <li><b>tick</b>: el tick completo</li>
+ * </ul>
+ * Además, <b>instantanea</b> mide el armado de cada instantánea para la vista y
+ * <b>pintado</b> el dibujo de cada fotograma. También acumula los bytes que asignan el
+ * tick, la instantánea y el dibujo, según {@link #bytesAsignadosDelHilo()}, y cuenta los
+ * fotogramas que pide el juego, los que se unen a uno pendiente, los que se presentan y
+ * las instantáneas que se reemplazan antes de dibujarse.
+ *
+ * <p>Medir una fase cuesta dos lecturas de {@link System#nanoTime()} y un registro en un
+ * {@link HistogramaLatencia}, sin crear objetos. Cada fase la registra un solo hilo (el
+ * del juego o el de dibujo), y todo puede consultarse desde cualquier hilo, en
+ * particular por JMX mediante {@link #registrarEnPlataforma()}.
+ *
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ */
+public class MetricasJuego implements MetricasJuegoMXBean {
+    /** Nombre con que se registra en el servidor de MBeans de la plataforma */
+    public static final String NOMBRE_OBJETO = "org.example:type=MetricasJuego";
+    /** Medición de asignación por hilo de la JVM, o null si no está disponible */
+    private static final com.sun.management.ThreadMXBean HILOS = hilosConAsignacion();
+
+    private final HistogramaLatencia entrada = new HistogramaLatencia("entrada");
+    private final HistogramaLatencia formacion = new HistogramaLatencia("formacion");
+    private final HistogramaLatencia proyectiles = new HistogramaLatencia("proyectiles");
+    private final HistogramaLatencia colisiones = new HistogramaLatencia("colisiones");
+    private final HistogramaLatencia tick = new HistogramaLatencia("tick");
+    private final HistogramaLatencia instantanea = new HistogramaLatencia("instantanea");
+    private final HistogramaLatencia pintado = new HistogramaLatencia("pintado");
+    /** Se reemplaza entero al agregar fases, para poder recorrerlo desde cualquier hilo */
+    private volatile HistogramaLatencia[] fases = {
+        entrada, formacion, proyectiles, colisiones, tick, instantanea, pintado
+    };
+    private final AtomicLong bytesAsignados = new AtomicLong();
+    private final AtomicLong fotogramasSolicitados = new AtomicLong();
+    private final AtomicLong fotogramasDescartados = new AtomicLong();
+    private final AtomicLong fotogramasPresentados = new AtomicLong();
+    private final AtomicLong instantaneasOmitidas = new AtomicLong();
+
+    private volatile int enemigosVivos;
+    private volatile int proyectilesJugador;
+    private volatile int proyectilesEnemigos;
+    private volatile int bloquesMuroVivos;
+
+    public HistogramaLatencia getEntrada() { return entrada; }
+    public HistogramaLatencia getFormacion() { return formacion; }
+    public HistogramaLatencia getProyectiles() { return proyectiles; }
+    public HistogramaLatencia getColisiones() { return colisiones; }
+    public HistogramaLatencia getTick() { return tick; }
+    public HistogramaLatencia getInstantanea() { return instantanea; }
+    public HistogramaLatencia getPintado() { return pintado; }
+
+    /**
+     * Agrega histogramas medidos fuera del juego, como las latencias de la entrada o la
+     * duración de los fotogramas, para publicarlos por JMX junto a las fases propias.
+     *
+     * @param otras Histogramas a agregar, identificados por su nombre
+     */
+    public synchronized void agregarFases(HistogramaLatencia... otras) {
+        HistogramaLatencia[] actuales = fases;
+        HistogramaLatencia[] nuevas = Arrays.copyOf(actuales, actuales.length + otras.length);
+        System.arraycopy(otras, 0, nuevas, actuales.length, otras.length);
+        fases = nuevas;
+    }
+
+    /**
+     * Registra las entidades vivas al final de un tick.
+     */
+    public void registrarEntidades(int enemigos, int proyectilesJugador, int proyectilesEnemigos, int bloquesMuro) {
+        this.enemigosVivos = enemigos;
+        this.proyectilesJugador = proyectilesJugador;
+        this.proyectilesEnemigos = proyectilesEnemigos;
+        this.bloquesMuroVivos = bloquesMuro;
+    }
+
+    /**
+     * Suma bytes asignados por el tick o por el dibujo.
+     *
+     * @param bytes Diferencia entre dos lecturas de {@link #bytesAsignadosDelHilo()}
+     */
+    public void sumarBytesAsignados(long bytes) {
+        if (bytes > 0) {
+            bytesAsignados.addAndGet(bytes);
+        }
+    }
+
+    /**
+     * Registra un pedido de fotograma a la vista.
+     *
+     * @param descartado true si se unió a un pedido todavía pendiente, sin producir un
+     *                   fotograma propio
+     */
+    public void registrarSolicitudFotograma(boolean descartado) {
+        fotogramasSolicitados.incrementAndGet();
+        if (descartado) {
+            fotogramasDescartados.incrementAndGet();
+        }
+    }
+
+    /**
+     * Registra un fotograma dibujado y presentado en pantalla.
+     */
+    public void registrarFotogramaPresentado() {
+        fotogramasPresentados.incrementAndGet();
+    }
+
+    /**
+     * Suma instantáneas que se publicaron y fueron reemplazadas antes de dibujarse.
+     */
+    public void sumarInstantaneasOmitidas(long cantidad) {
+        instantaneasOmitidas.addAndGet(cantidad);
+    }
+
+    /**
+     * Obtiene los bytes asignados hasta ahora por el hilo actual. Es una lectura de un
+     * contador de la JVM, sin crear objetos.
+     *
+     * @return Bytes asignados, o 0 si la JVM no los mide
+     */
+    public static long bytesAsignadosDelHilo() {
+        return HILOS != null ? HILOS.getCurrentThreadAllocatedBytes() : 0;
+    }
+
+    private static com.sun.management.ThreadMXBean hilosConAsignacion() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean hilos = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            if (hilos.isThreadAllocatedMemorySupported() && hilos.isThreadAllocatedMemoryEnabled()) {
+                return hilos;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public List<ResumenFase> getFases() {
+        List<ResumenFase> resumenes = new ArrayList<>(fases.length);
+        for (HistogramaLatencia fase : fases) {
+            resumenes.add(new ResumenFase(fase));
+        }
+        return resumenes;
+    }
+
+    @Override
+    public long getTicks() { return tick.getCantidad(); }
+
+    @Override
+    public int getEnemigosVivos() { return enemigosVivos; }
+
+    @Override
+    public int getProyectilesJugador() { return proyectilesJugador; }
+
+    @Override
+    public int getProyectilesEnemigos() { return proyectilesEnemigos; }
+
+    @Override
+    public int getBloquesMuroVivos() { return bloquesMuroVivos; }
+
+    @Override
+    public long getBytesAsignados() { return bytesAsignados.get(); }
+
+    @Override
+    public long getFotogramasSolicitados() { return fotogramasSolicitados.get(); }
+
+    @Override
+    public long getFotogramasDescartados() { return fotogramasDescartados.get(); }
+
+    @Override
+    public long getFotogramasPresentados() { return fotogramasPresentados.get(); }
+
+    @Override
+    public long getInstantaneasOmitidas() { return instantaneasOmitidas.get(); }
+
+    @Override
+    public double percentilMs(String fase, double percentil) {
+        for (HistogramaLatencia histograma : fases) {
+            if (histograma.getNombre().equals(fase)) {
+                return histograma.getPercentil(percentil) / 1e6;
+            }
+        }
+        throw new IllegalArgumentException("Fase desconocida: " + fase);
+    }
+
+    @Override
+    public void reiniciar() {
+        for (HistogramaLatencia fase : fases) {
+            fase.reiniciar();
+        }
+    }
+
+    /**
+     * Registra estas métricas en el servidor de MBeans de la plataforma con el nombre
+     * {@value #NOMBRE_OBJETO}. Si ya había otras registradas con ese nombre (de un juego
+     * anterior en la misma JVM), las reemplaza.
+     *
+     * @throws IllegalStateException si el servidor rechaza el registro
+     */
+    public void registrarEnPlataforma() {
+        MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName nombre = new ObjectName(NOMBRE_OBJETO);
+            try {
+                servidor.registerMBean(this, nombre);
+            } catch (InstanceAlreadyExistsException e) {
+                try {
+                    servidor.unregisterMBean(nombre);
+                } catch (InstanceNotFoundException yaQuitado) {
+                    // Otro hilo lo quitó entre tanto
+                }
+                servidor.registerMBean(this, nombre);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("No se pudieron registrar las métricas por JMX", e);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.metricas;
+
+import java.util.List;
+
+/**
+ * Vista de {@link MetricasJuego} por JMX. Se registra en el servidor de MBeans de la
+ * plataforma con el nombre {@value MetricasJuego#NOMBRE_OBJETO}, de modo que puede
+ * observarse con JConsole o VisualVM en un juego en marcha.
+ *
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ */
+public interface MetricasJuegoMXBean {
+    /**
+     * Resumen de cada fase del tick y del dibujo: cantidad, percentiles 50, 90, 99 y
+     * 99,9, máximo y promedio, en milisegundos.
+     */
+    List<ResumenFase> getFases();
+
+    /** Cantidad de ticks medidos desde el último reinicio */
+    long getTicks();
+
+    /** Enemigos vivos al final del último tick */
+    int getEnemigosVivos();
+
+    /** Proyectiles del jugador en vuelo al final del último tick */
+    int getProyectilesJugador();
+
+    /** Proyectiles enemigos en vuelo al final del último tick */
+    int getProyectilesEnemigos();
+
+    /** Bloques de muro con puntos de vida al final del último tick */
+    int getBloquesMuroVivos();
+
+    /** Bytes asignados por los ticks, las instantáneas y el dibujo desde que se crearon las métricas */
+    long getBytesAsignados();
+
+    /** Fotogramas que pidió el bucle de juego a la vista desde que se crearon las métricas */
+    long getFotogramasSolicitados();
+
+    /** Pedidos de fotograma que se unieron a uno todavía pendiente, sin dibujarse por separado */
+    long getFotogramasDescartados();
+
+    /** Fotogramas dibujados y presentados en pantalla */
+    long getFotogramasPresentados();
+
+    /** Instantáneas publicadas que se reemplazaron por una más nueva antes de dibujarse */
+    long getInstantaneasOmitidas();
+
+    /**
+     * Obtiene un percentil de una fase.
+     *
+     * @param fase Nombre de la fase, como aparece en {@link #getFases()}
+     * @param percentil Valor entre 0 y 100
+     * @return Duración en milisegundos
+     * @throws IllegalArgumentException si la fase no existe
+     */
+    double percentilMs(String fase, double percentil);
+
+    /**
+     * Descarta las duraciones registradas en todas las fases.
+     */
+    void reiniciar();
+}
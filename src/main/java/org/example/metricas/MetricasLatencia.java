@@ -0,0 +1,44 @@
+package org.example.metricas;
+
+/**
+ * Latencias del recorrido de una pulsación desde el teclado hasta la pantalla,
+ * separadas por tramo para poder ver de dónde viene el retardo:
+ *
+ * <ul>
+ *   <li><b>Entrada a tick</b>: desde que la vista recibe el evento de teclado hasta que
+ *       comienza el tick que lo aplica</li>
+ *   <li><b>Tick a instantánea</b>: desde que termina el tick más antiguo de una instantánea
+ *       hasta que ésta se publica para la vista</li>
+ *   <li><b>Instantánea a pantalla</b>: desde que se arma una instantánea hasta que se
+ *       presenta el primer fotograma que la muestra</li>
+ *   <li><b>Entrada a pantalla</b>: desde el evento de teclado más reciente que refleja un
+ *       fotograma hasta que ese fotograma se presenta</li>
+ * </ul>
+ *
+ * <p>Cada tramo lo registra el hilo que lo cierra (el del juego o el de dibujo), y los
+ * histogramas pueden consultarse desde cualquier hilo.
+ *
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ */
+public class MetricasLatencia {
+    private final HistogramaLatencia entradaATick = new HistogramaLatencia("entrada -> tick");
+    private final HistogramaLatencia tickAInstantanea = new HistogramaLatencia("tick -> instantanea");
+    private final HistogramaLatencia instantaneaAPantalla = new HistogramaLatencia("instantanea -> pantalla");
+    private final HistogramaLatencia entradaAPantalla = new HistogramaLatencia("entrada -> pantalla");
+
+    public HistogramaLatencia getEntradaATick() { return entradaATick; }
+    public HistogramaLatencia getTickAInstantanea() { return tickAInstantanea; }
+    public HistogramaLatencia getInstantaneaAPantalla() { return instantaneaAPantalla; }
+    public HistogramaLatencia getEntradaAPantalla() { return entradaAPantalla; }
+
+    /**
+     * Descarta los valores de todos los tramos.
+     */
+    public void reiniciar() {
+        entradaATick.reiniciar();
+        tickAInstantanea.reiniciar();
+        instantaneaAPantalla.reiniciar();
+        entradaAPantalla.reiniciar();
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.metricas;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Duración de las colecciones de basura de la JVM, según las notificaciones de sus
+ * {@link GarbageCollectorMXBean}. Guarda todas en un {@link HistogramaLatencia} y las
+ * últimas {@value #RECIENTES} en orden, para mostrarlas.
+ *
+ * <p>Las notificaciones llegan en un hilo de la JVM, con un pequeño retraso después de
+ * cada colección. Con colectores concurrentes algunas duraciones incluyen trabajo que no
+ * detuvo a la aplicación. Hay una única instancia por JVM ({@link #global()}), que se
+ * registra la primera vez que se la pide.
+ *
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ */
+public class PausasGc implements NotificationListener {
+    /** Cantidad de duraciones recientes que se conservan */
+    public static final int RECIENTES = 16;
+
+    private static PausasGc global;
+
+    private final HistogramaLatencia duraciones = new HistogramaLatencia("pausas gc");
+    private final AtomicLongArray recientes = new AtomicLongArray(RECIENTES);
+    private final AtomicLong cantidad = new AtomicLong();
+
+    private PausasGc() {
+    }
+
+    /**
+     * Obtiene la instancia de la JVM, registrándola la primera vez como listener de
+     * todos los colectores.
+     */
+    public static synchronized PausasGc global() {
+        if (global == null) {
+            global = new PausasGc();
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                if (gc instanceof NotificationEmitter) {
+                    ((NotificationEmitter) gc).addNotificationListener(global, null, null);
+                }
+            }
+        }
+        return global;
+    }
+
+    @Override
+    public void handleNotification(Notification notificacion, Object contexto) {
+        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notificacion.getType())) {
+            return;
+        }
+        GarbageCollectionNotificationInfo info =
+            GarbageCollectionNotificationInfo.from((CompositeData) notificacion.getUserData());
+        long nanos = info.getGcInfo().getDuration() * 1_000_000;
+        duraciones.registrar(nanos);
+        // Un único hilo notifica: escribir la duración antes de publicar la cantidad
+        long n = cantidad.get();
+        recientes.set((int) (n % RECIENTES), nanos);
+        cantidad.set(n + 1);
+    }
+
+    /** Duración de todas las colecciones notificadas */
+    public HistogramaLatencia getDuraciones() {
+        return duraciones;
+    }
+
+    /** Cantidad de colecciones notificadas desde que se registró */
+    public long getCantidad() {
+        return cantidad.get();
+    }
+
+    /**
+     * Copia las duraciones más recientes, de la más nueva a la más vieja.
+     *
+     * @param destino Arreglo donde copiarlas; se usan a lo sumo {@value #RECIENTES} posiciones
+     * @return Cantidad de duraciones copiadas
+     */
+    public int copiarRecientes(long[] destino) {
+        long n = cantidad.get();
+        int copiadas = (int) Math.min(Math.min(n, RECIENTES), destino.length);
+        for (int k = 0; k < copiadas; k++) {
+            destino[k] = recientes.get((int) ((n - 1 - k) % RECIENTES));
+        }
+        return copiadas;
+    }
+}
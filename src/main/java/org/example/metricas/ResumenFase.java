@@ -0,0 +1,42 @@
+package org.example.metricas;
+
+/**
+ * Resumen inmutable de un {@link HistogramaLatencia}, en milisegundos, tal como se
+ * muestra por JMX: JConsole lo presenta como una fila de la tabla de fases.
+ *
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ */
+public class ResumenFase {
+    private final String nombre;
+    private final long cantidad;
+    private final double p50Ms;
+    private final double p90Ms;
+    private final double p99Ms;
+    private final double p999Ms;
+    private final double maximoMs;
+    private final double promedioMs;
+
+    /**
+     * @param histograma Histograma del que se toman los valores en este momento
+     */
+    public ResumenFase(HistogramaLatencia histograma) {
+        this.nombre = histograma.getNombre();
+        this.cantidad = histograma.getCantidad();
+        this.p50Ms = histograma.getPercentil(50) / 1e6;
+        this.p90Ms = histograma.getPercentil(90) / 1e6;
+        this.p99Ms = histograma.getPercentil(99) / 1e6;
+        this.p999Ms = histograma.getPercentil(99.9) / 1e6;
+        this.maximoMs = histograma.getMaximo() / 1e6;
+        this.promedioMs = histograma.getPromedio() / 1e6;
+    }
+
+    public String getNombre() { return nombre; }
+    public long getCantidad() { return cantidad; }
+    public double getP50Ms() { return p50Ms; }
+    public double getP90Ms() { return p90Ms; }
+    public double getP99Ms() { return p99Ms; }
+    public double getP999Ms() { return p999Ms; }
+    public double getMaximoMs() { return maximoMs; }
+    public double getPromedioMs() { return promedioMs; }
+}
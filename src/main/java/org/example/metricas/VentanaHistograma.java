@@ -0,0 +1,84 @@
+package org.example.metricas;
+
+/**
+ * Percentiles de un {@link HistogramaLatencia} restringidos a un intervalo reciente.
+ *
+ * <p>El histograma acumula desde que se creó (o desde su último reinicio); la ventana
+ * guarda una copia de sus contadores y, con cada llamada a {@link #avanzar()}, calcula
+ * los valores registrados desde la llamada anterior. Sirve para mostrar cómo evolucionan
+ * los percentiles sin reiniciar el histograma, que otros pueden estar consultando.
+ *
+ * <p>Los arreglos se crean una sola vez: avanzar y consultar no crean objetos. Debe
+ * usarse desde un solo hilo.
+ *
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ */
+public class VentanaHistograma {
+    private final HistogramaLatencia histograma;
+    private final long[] anteriores = new long[HistogramaLatencia.CUBETAS];
+    private final long[] intervalo = new long[HistogramaLatencia.CUBETAS];
+    private long cantidad;
+    private int ultimaCubeta = -1;
+
+    /**
+     * @param histograma Histograma a observar; la primera ventana abarca todo lo registrado
+     */
+    public VentanaHistograma(HistogramaLatencia histograma) {
+        this.histograma = histograma;
+    }
+
+    /**
+     * Cierra el intervalo actual: a partir de ahora las consultas se refieren a los
+     * valores registrados entre la llamada anterior y ésta. Si el histograma se
+     * reinició entre tanto, el intervalo abarca lo registrado desde el reinicio.
+     */
+    public void avanzar() {
+        long total = 0;
+        ultimaCubeta = -1;
+        for (int i = 0; i < intervalo.length; i++) {
+            long actual = histograma.getConteo(i);
+            long delta = actual - anteriores[i];
+            if (delta < 0) {
+                delta = actual;
+            }
+            intervalo[i] = delta;
+            anteriores[i] = actual;
+            total += delta;
+            if (delta > 0) {
+                ultimaCubeta = i;
+            }
+        }
+        cantidad = total;
+    }
+
+    /** Cantidad de valores registrados en el intervalo */
+    public long getCantidad() {
+        return cantidad;
+    }
+
+    /**
+     * Obtiene el percentil indicado de los valores del intervalo, redondeado hacia
+     * arriba al borde de su cubeta.
+     *
+     * @param percentil Valor entre 0 y 100
+     * @return Latencia en nanosegundos, o 0 si el intervalo está vacío
+     */
+    public long getPercentil(double percentil) {
+        if (cantidad == 0) return 0;
+        long objetivo = Math.max(1, (long) Math.ceil(cantidad * Math.min(100.0, percentil) / 100.0));
+        long acumulado = 0;
+        for (int i = 0; i <= ultimaCubeta; i++) {
+            acumulado += intervalo[i];
+            if (acumulado >= objetivo) {
+                return HistogramaLatencia.limiteSuperior(i);
+            }
+        }
+        return getMaximo();
+    }
+
+    /** Borde superior de la cubeta del mayor valor del intervalo, o 0 si está vacío */
+    public long getMaximo() {
+        return ultimaCubeta < 0 ? 0 : HistogramaLatencia.limiteSuperior(ultimaCubeta);
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.metricas.eventos;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Evento de JFR por cada resolución de colisiones de un tick. Por defecto sólo se
+ * graban las que duran más de 1 ms.
+ *
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ */
+@Name("org.example.Colisiones")
+@Label("Colisiones")
+@Category({"Space Invaders", "Bucle de juego"})
+@Description("Resolución de colisiones de un tick")
+@Threshold("1 ms")
+@StackTrace(false)
+public class EventoColisiones extends jdk.jfr.Event {
+    private static final EventType TIPO = EventType.getEventType(EventoColisiones.class);
+
+    /**
+     * @return true si alguna grabación en curso pide este evento; si no, no se crea
+     */
+    public static boolean habilitado() {
+        return TIPO.isEnabled();
+    }
+
+    @Label("Proyectiles antes")
+    int proyectilesAntes;
+
+    @Label("Proyectiles después")
+    int proyectilesDespues;
+
+    @Label("Enemigos antes")
+    int enemigosAntes;
+
+    @Label("Enemigos después")
+    int enemigosDespues;
+
+    /**
+     * Termina la resolución y, si supera el umbral, la graba.
+     */
+    public void registrar(int proyectilesAntes, int proyectilesDespues, int enemigosAntes, int enemigosDespues) {
+        end();
+        if (shouldCommit()) {
+            this.proyectilesAntes = proyectilesAntes;
+            this.proyectilesDespues = proyectilesDespues;
+            this.enemigosAntes = enemigosAntes;
+            this.enemigosDespues = enemigosDespues;
+            commit();
+        }
+    }
+}
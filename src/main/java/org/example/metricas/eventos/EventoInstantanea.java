@@ -0,0 +1,65 @@
+package org.example.metricas.eventos;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Evento de JFR por cada instantánea que el hilo del juego arma y publica para la
+ * vista. Por defecto sólo se graban las que tardan más de 1 ms.
+ *
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ */
+@Name("org.example.Instantanea")
+@Label("Publicación de instantánea")
+@Category({"Space Invaders", "Bucle de juego"})
+@Description("Armado y publicación de una instantánea del estado para la vista")
+@Threshold("1 ms")
+@StackTrace(false)
+public class EventoInstantanea extends jdk.jfr.Event {
+    private static final EventType TIPO = EventType.getEventType(EventoInstantanea.class);
+
+    /**
+     * @return true si alguna grabación en curso pide este evento; si no, no se crea
+     */
+    public static boolean habilitado() {
+        return TIPO.isEnabled();
+    }
+
+    @Label("Número de instantánea")
+    long numero;
+
+    @Label("Ticks en el fotograma")
+    int ticks;
+
+    @Label("Enemigos")
+    int enemigos;
+
+    @Label("Proyectiles")
+    int proyectiles;
+
+    @Label("Bloques de muro enviados")
+    int bloquesMuro;
+
+    /**
+     * Termina la publicación y, si supera el umbral, la graba.
+     *
+     * @param ticks Ticks simulados en el fotograma que publica la instantánea
+     */
+    public void registrar(long numero, int ticks, int enemigos, int proyectiles, int bloquesMuro) {
+        end();
+        if (shouldCommit()) {
+            this.numero = numero;
+            this.ticks = ticks;
+            this.enemigos = enemigos;
+            this.proyectiles = proyectiles;
+            this.bloquesMuro = bloquesMuro;
+            commit();
+        }
+    }
+}
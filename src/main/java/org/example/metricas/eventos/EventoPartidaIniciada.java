@@ -0,0 +1,43 @@
+package org.example.metricas.eventos;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento de JFR al comenzar una partida.
+ *
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ */
+@Name("org.example.PartidaIniciada")
+@Label("Partida iniciada")
+@Category({"Space Invaders", "Partida"})
+@Description("Comienzo de una partida, estándar o a partir de un escenario")
+public class EventoPartidaIniciada extends jdk.jfr.Event {
+    @Label("Escenario")
+    String escenario;
+
+    @Label("Enemigos")
+    int enemigos;
+
+    @Label("Vidas")
+    int vidas;
+
+    @Label("Proyectiles iniciales")
+    int proyectiles;
+
+    /**
+     * Graba el comienzo de la partida.
+     */
+    public void registrar(String escenario, int enemigos, int vidas, int proyectiles) {
+        if (shouldCommit()) {
+            this.escenario = escenario;
+            this.enemigos = enemigos;
+            this.vidas = vidas;
+            this.proyectiles = proyectiles;
+            commit();
+        }
+    }
+}
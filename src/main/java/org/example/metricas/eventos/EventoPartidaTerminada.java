@@ -0,0 +1,41 @@
+package org.example.metricas.eventos;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento de JFR que abarca una partida completa, desde que comienza hasta que el
+ * jugador pierde todas las vidas.
+ *
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ */
+@Name("org.example.PartidaTerminada")
+@Label("Partida terminada")
+@Category({"Space Invaders", "Partida"})
+@Description("Partida completa, hasta el fin del juego")
+public class EventoPartidaTerminada extends jdk.jfr.Event {
+    @Label("Puntaje")
+    int puntaje;
+
+    @Label("Niveles superados")
+    int nivelesSuperados;
+
+    @Label("Ticks simulados")
+    long ticks;
+
+    /**
+     * Termina la partida y la graba.
+     */
+    public void registrar(int puntaje, int nivelesSuperados, long ticks) {
+        end();
+        if (shouldCommit()) {
+            this.puntaje = puntaje;
+            this.nivelesSuperados = nivelesSuperados;
+            this.ticks = ticks;
+            commit();
+        }
+    }
+}
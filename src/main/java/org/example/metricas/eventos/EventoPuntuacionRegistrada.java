@@ -0,0 +1,45 @@
+package org.example.metricas.eventos;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento de JFR por cada puntuación que se agrega al ranking.
+ *
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ */
+@Name("org.example.PuntuacionRegistrada")
+@Label("Puntuación registrada")
+@Category({"Space Invaders", "Ranking"})
+@Description("Una puntuación agregada al ranking")
+public class EventoPuntuacionRegistrada extends jdk.jfr.Event {
+    @Label("Jugador")
+    String jugador;
+
+    @Label("Puntuación")
+    int puntuacion;
+
+    @Label("Niveles superados")
+    int nivelesSuperados;
+
+    @Label("Posición")
+    @Description("Posición en el ranking, desde 1, detrás de las puntuaciones iguales anteriores")
+    int posicion;
+
+    /**
+     * Termina el registro en el ranking y lo graba.
+     */
+    public void registrar(String jugador, int puntuacion, int nivelesSuperados, int posicion) {
+        end();
+        if (shouldCommit()) {
+            this.jugador = jugador;
+            this.puntuacion = puntuacion;
+            this.nivelesSuperados = nivelesSuperados;
+            this.posicion = posicion;
+            commit();
+        }
+    }
+}
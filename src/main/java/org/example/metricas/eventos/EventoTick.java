@@ -0,0 +1,69 @@
+package org.example.metricas.eventos;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Evento de JFR por cada tick de simulación ({@code Juego.update}). Por defecto sólo se
+ * graban los ticks que duran más de 2 ms.
+ *
+ * <p>Uso: si {@link #habilitado()}, crear el evento, llamar a {@link #begin()} antes
+ * del tick y a {@link #registrar} después.
+ *
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ */
+@Name("org.example.Tick")
+@Label("Tick")
+@Category({"Space Invaders", "Bucle de juego"})
+@Description("Un tick de simulación a paso fijo")
+@Threshold("2 ms")
+@StackTrace(false)
+public class EventoTick extends jdk.jfr.Event {
+    private static final EventType TIPO = EventType.getEventType(EventoTick.class);
+
+    /**
+     * Indica si alguna grabación en curso pide este evento. Como se emite en cada tick,
+     * sólo se crea si lo está: aun con JFR apagado, el JIT no elimina el objeto.
+     *
+     * @return true si hay que crear el evento
+     */
+    public static boolean habilitado() {
+        return TIPO.isEnabled();
+    }
+
+    @Label("Número de tick")
+    long numero;
+
+    @Label("Estado")
+    String estado;
+
+    @Label("Enemigos vivos")
+    int enemigos;
+
+    @Label("Proyectiles")
+    int proyectiles;
+
+    @Label("Bloques de muro vivos")
+    int bloquesMuro;
+
+    /**
+     * Termina el tick y, si supera el umbral, lo graba con las entidades vivas al final.
+     */
+    public void registrar(long numero, String estado, int enemigos, int proyectiles, int bloquesMuro) {
+        end();
+        if (shouldCommit()) {
+            this.numero = numero;
+            this.estado = estado;
+            this.enemigos = enemigos;
+            this.proyectiles = proyectiles;
+            this.bloquesMuro = bloquesMuro;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.metricas.eventos;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento de JFR que abarca una transición de nivel, desde que se elimina al último
+ * enemigo hasta que aparece la formación siguiente.
+ *
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ */
+@Name("org.example.TransicionNivel")
+@Label("Transición de nivel")
+@Category({"Space Invaders", "Partida"})
+@Description("Pantalla de transición entre dos niveles")
+public class EventoTransicionNivel extends jdk.jfr.Event {
+    @Label("Nivel alcanzado")
+    int nivel;
+
+    @Label("Puntaje")
+    int puntaje;
+
+    /**
+     * Termina la transición y la graba.
+     *
+     * @param nivel Nivel que comienza
+     */
+    public void registrar(int nivel, int puntaje) {
+        end();
+        if (shouldCommit()) {
+            this.nivel = nivel;
+            this.puntaje = puntaje;
+            commit();
+        }
+    }
+}
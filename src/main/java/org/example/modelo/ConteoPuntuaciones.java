@@ -0,0 +1,186 @@
+package org.example.modelo;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Cantidad de puntuaciones registradas por valor, para calcular posiciones en el
+ * {@link Ranking} en tiempo logarítmico.
+ *
+ * <p>Los 32 bits de la puntuación se dividen en tres dígitos de {@value #BITS} bits (el
+ * primero con uno menos), y cada nodo del árbol resultante guarda un árbol de Fenwick
+ * sobre sus {@value #ANCHO} dígitos con la cantidad de puntuaciones de cada subárbol.
+ * Los dígitos se almacenan invertidos, de modo que las sumas de prefijo cuentan las
+ * puntuaciones mayores; así, contar las mayores a una puntuación y encontrar la
+ * puntuación en una posición dada recorren tres árboles de Fenwick. Los nodos se
+ * crean a medida que aparecen puntuaciones en su rango. Las hojas llevan además la
+ * cantidad exacta de cada puntuación, de la que sale el orden de cada registro entre
+ * los de igual puntuación.
+ *
+ * <p>Admite registros concurrentes sin bloqueos. Cada registro suma primero en la hoja
+ * y luego hacia la raíz, así que una consulta simultánea puede no ver los registros en
+ * curso, pero nunca encuentra en un nodo menos puntuaciones de las que cuenta su padre.
+ * Registrar no crea objetos salvo los nodos nuevos.
+ *
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ */
+final class ConteoPuntuaciones {
+    private static final int BITS = 11;
+    private static final int ANCHO = 1 << BITS;
+    /** Niveles del árbol: 3 x 11 bits cubren los 32 de la puntuación */
+    private static final int NIVELES = 3;
+
+    private final Nodo raiz = new Nodo(NIVELES - 1);
+
+    /**
+     * Registra una puntuación más.
+     *
+     * @param puntuacion Puntuación a registrar
+     * @return Cantidad de registros anteriores de la misma puntuación: el orden de éste
+     *         entre ellos, desde 0
+     */
+    long registrar(int puntuacion) {
+        return raiz.registrar(puntuacion);
+    }
+
+    /**
+     * Cuenta las puntuaciones registradas mayores a la indicada, o mayores o iguales.
+     *
+     * @param puntuacion Puntuación de referencia
+     * @param incluirIguales true para contar también las iguales
+     * @return Cantidad de puntuaciones
+     */
+    long contarMayores(int puntuacion, boolean incluirIguales) {
+        long total = 0;
+        Nodo nodo = raiz;
+        for (int nivel = NIVELES - 1; nivel > 0; nivel--) {
+            int indice = indice(puntuacion, nivel);
+            total += nodo.prefijo(indice);
+            nodo = nodo.hijo(indice);
+            if (nodo == null) return total;
+        }
+        int indice = indice(puntuacion, 0);
+        return total + nodo.prefijo(incluirIguales ? indice + 1 : indice);
+    }
+
+    /**
+     * Busca la puntuación que ocupa una posición, contando desde la mayor.
+     *
+     * @param posicion Posición desde 0
+     * @return Puntuación en esa posición, o null si hay menos puntuaciones registradas
+     */
+    Integer buscar(long posicion) {
+        if (posicion < 0) return null;
+        long[] restante = {posicion};
+        int sinSigno = 0;
+        Nodo nodo = raiz;
+        for (int nivel = NIVELES - 1; nivel >= 0; nivel--) {
+            int indice = nodo.buscar(restante);
+            if (indice < 0) return null;
+            sinSigno |= (ANCHO - 1 - indice) << (BITS * nivel);
+            if (nivel > 0) {
+                nodo = nodo.hijo(indice);
+                if (nodo == null) return null;
+            }
+        }
+        return sinSigno ^ Integer.MIN_VALUE;
+    }
+
+    /**
+     * Índice, dentro de un nodo del nivel dado, del dígito de la puntuación. La
+     * puntuación se lleva a un orden sin signo y el dígito se invierte, para que los
+     * índices menores correspondan a las puntuaciones mayores.
+     */
+    private static int indice(int puntuacion, int nivel) {
+        int sinSigno = puntuacion ^ Integer.MIN_VALUE;
+        int digito = (sinSigno >>> (BITS * nivel)) & (ANCHO - 1);
+        return ANCHO - 1 - digito;
+    }
+
+    /**
+     * Nodo del árbol: un árbol de Fenwick sobre sus dígitos y, salvo en las hojas, los
+     * nodos hijos de cada dígito.
+     */
+    private static final class Nodo {
+        /** Árbol de Fenwick indexado desde 1 */
+        private final AtomicLongArray fenwick = new AtomicLongArray(ANCHO + 1);
+        private final AtomicReferenceArray<Nodo> hijos;
+        /** Sólo en las hojas: cantidad de registros de cada dígito */
+        private final AtomicLongArray cantidades;
+        private final int nivel;
+
+        Nodo(int nivel) {
+            this.nivel = nivel;
+            this.hijos = nivel > 0 ? new AtomicReferenceArray<>(ANCHO) : null;
+            this.cantidades = nivel == 0 ? new AtomicLongArray(ANCHO) : null;
+        }
+
+        /**
+         * Registra la puntuación en el subárbol: primero en el hijo, hasta la hoja, y
+         * al volver en este nodo.
+         *
+         * @return Orden del registro entre los de igual puntuación
+         */
+        long registrar(int puntuacion) {
+            int indice = indice(puntuacion, nivel);
+            long orden = nivel > 0
+                ? hijoCreando(indice).registrar(puntuacion)
+                : cantidades.getAndIncrement(indice);
+            sumar(indice, 1);
+            return orden;
+        }
+
+        Nodo hijo(int indice) {
+            return hijos.get(indice);
+        }
+
+        Nodo hijoCreando(int indice) {
+            Nodo hijo = hijos.get(indice);
+            if (hijo == null) {
+                Nodo nuevo = new Nodo(nivel - 1);
+                hijo = hijos.compareAndSet(indice, null, nuevo) ? nuevo : hijos.get(indice);
+            }
+            return hijo;
+        }
+
+        void sumar(int indice, long cantidad) {
+            for (int i = indice + 1; i <= ANCHO; i += i & -i) {
+                fenwick.addAndGet(i, cantidad);
+            }
+        }
+
+        /** Suma de los índices menores al dado */
+        long prefijo(int indice) {
+            long suma = 0;
+            for (int i = indice; i > 0; i -= i & -i) {
+                suma += fenwick.get(i);
+            }
+            return suma;
+        }
+
+        /**
+         * Busca el menor índice cuya suma de prefijo, incluido él mismo, supera la
+         * posición, y le descuenta la suma de los índices anteriores.
+         *
+         * @param posicion Posición dentro del nodo; al volver, posición dentro del índice
+         * @return Índice, o -1 si la suma de todo el nodo no supera la posición
+         */
+        int buscar(long[] posicion) {
+            int actual = 0;
+            long restante = posicion[0];
+            for (int paso = ANCHO; paso > 0; paso >>= 1) {
+                int siguiente = actual + paso;
+                if (siguiente <= ANCHO) {
+                    long suma = fenwick.get(siguiente);
+                    if (suma <= restante) {
+                        actual = siguiente;
+                        restante -= suma;
+                    }
+                }
+            }
+            posicion[0] = restante;
+            return actual < ANCHO ? actual : -1;
+        }
+    }
+}
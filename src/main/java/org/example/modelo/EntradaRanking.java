@@ -10,7 +10,8 @@ package org.example.modelo;
  *   <li>Puntuación obtenida</li>
  * </ul>
  * 
- * <p>Implementa Comparable para permitir ordenamiento por puntuación descendente.
+ * <p>Implementa Comparable para permitir ordenamiento por puntuación descendente; a
+ * igual puntuación, va primero la que se registró antes en el {@link Ranking}.
  * 
  * @author LaumanEspanaBarzaghi
  * @version 1.0
@@ -19,6 +20,8 @@ public class EntradaRanking implements Comparable<EntradaRanking> {
     private String nombre;
     private int nivelesSuperados;
     private int puntuacion;
+    /** Orden de registro entre las entradas de igual puntuación, desde 0, para desempatar */
+    private long orden;
 
     /**
      * Constructor que crea una nueva entrada de ranking.
@@ -28,9 +31,19 @@ public class EntradaRanking implements Comparable<EntradaRanking> {
      * @param puntuacion Puntuación obtenida
      */
     public EntradaRanking(String nombre, int nivelesSuperados, int puntuacion) {
+        this(nombre, nivelesSuperados, puntuacion, 0);
+    }
+
+    /**
+     * Constructor que crea una entrada con su orden de registro en el ranking.
+     * 
+     * @param orden Orden de registro entre las de igual puntuación; el menor va primero
+     */
+    EntradaRanking(String nombre, int nivelesSuperados, int puntuacion, long orden) {
         this.nombre = nombre;
         this.nivelesSuperados = nivelesSuperados;
         this.puntuacion = puntuacion;
+        this.orden = orden;
     }
 
     /**
@@ -63,15 +76,17 @@ public class EntradaRanking implements Comparable<EntradaRanking> {
     /**
      * Compara esta entrada con otra para ordenamiento.
      * 
-     * <p>Ordena por puntuación descendente (mayor puntuación primero).
+     * <p>Ordena por puntuación descendente (mayor puntuación primero) y, a igual
+     * puntuación, por orden de registro.
      * 
      * @param otra Otra entrada de ranking a comparar
-     * @return Valor negativo si esta entrada tiene mayor puntuación, positivo si menor, 0 si igual
+     * @return Valor negativo si esta entrada va antes, positivo si va después, 0 si ocupan el mismo lugar
      */
     @Override
     public int compareTo(EntradaRanking otra) {
         // Ordenar por puntuación descendente (mayor a menor)
-        return Integer.compare(otra.puntuacion, this.puntuacion);
+        int porPuntuacion = Integer.compare(otra.puntuacion, this.puntuacion);
+        return porPuntuacion != 0 ? porPuntuacion : Long.compare(this.orden, otra.orden);
     }
 }
 
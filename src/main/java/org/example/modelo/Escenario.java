@@ -0,0 +1,52 @@
+package org.example.modelo;
+
+/**
+ * Configuración de una partida preparada para medir el rendimiento de la simulación o
+ * reproducir una situación concreta.
+ * 
+ * <p>Además del primer nivel (tamaño de la formación, velocidad y cadencia de disparo),
+ * fija las vidas del jugador, una cantidad de proyectiles enemigos ya en vuelo al
+ * comenzar y la densidad de los muros. Los niveles siguientes son los estándar de
+ * {@link Nivel#paraNumero(int)}.
+ * 
+ * <p>Con la misma semilla de {@link Juego} y la misma entrada, un escenario se
+ * desarrolla siempre igual.
+ * 
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ * @see Juego#inicializarPartida(Escenario)
+ */
+public class Escenario {
+    private final String nombre;
+    private final Nivel nivel;
+    private final int vidas;
+    private final int proyectilesIniciales;
+    private final double densidadMuros;
+
+    /**
+     * @param nombre Nombre con que se identifica el escenario en los reportes
+     * @param nivel Configuración del primer nivel
+     * @param vidas Vidas iniciales del jugador
+     * @param proyectilesIniciales Proyectiles enemigos repartidos por la pantalla al comenzar
+     * @param densidadMuros Fracción de bloques de muro vivos, entre 0 y 1
+     */
+    public Escenario(String nombre, Nivel nivel, int vidas, int proyectilesIniciales, double densidadMuros) {
+        if (proyectilesIniciales < 0) {
+            throw new IllegalArgumentException("Cantidad de proyectiles inválida: " + proyectilesIniciales);
+        }
+        if (densidadMuros < 0 || densidadMuros > 1) {
+            throw new IllegalArgumentException("La densidad de muros debe estar entre 0 y 1: " + densidadMuros);
+        }
+        this.nombre = nombre;
+        this.nivel = nivel;
+        this.vidas = vidas;
+        this.proyectilesIniciales = proyectilesIniciales;
+        this.densidadMuros = densidadMuros;
+    }
+
+    public String getNombre() { return nombre; }
+    public Nivel getNivel() { return nivel; }
+    public int getVidas() { return vidas; }
+    public int getProyectilesIniciales() { return proyectilesIniciales; }
+    public double getDensidadMuros() { return densidadMuros; }
+}
@@ -1,5 +1,6 @@
 package org.example.modelo;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -9,6 +10,23 @@ import java.util.List;
  * <p>Este DTO permite que el controlador obtenga datos del modelo y los pase
  * a la vista, respetando la separación de responsabilidades del patrón MVC.
  * 
+ * <p>Las entidades móviles incluyen su posición en el tick anterior para que la
+ * vista pueda interpolar entre ambos ticks con el factor alfa que lleva la propia
+ * instantánea ({@code 0} = tick anterior, {@code 1} = tick actual). En los fotogramas
+ * sin ticks nuevos el controlador publica la misma instantánea con otro factor
+ * ({@link #conAlfa(double)}), así que el factor siempre corresponde a las posiciones
+ * con que viaja.
+ * 
+ * <p>Es inmutable: se arma en el hilo del juego y se lee desde el hilo de renderizado,
+ * por lo que las listas se exponen como vistas no modificables.
+ * 
+ * <p>Cada instantánea lleva un número correlativo, el del tick que la produjo y el del
+ * último evento de entrada aplicado, junto con los instantes correspondientes, para que
+ * la vista pueda medir la latencia desde la pulsación hasta la pantalla.
+ * 
+ * <p>Los muros no se copian completos en cada instantánea: sólo viajan los bloques que
+ * cambiaron (ver {@link CambiosMuros}), y la vista mantiene su propia copia.
+ * 
  * @author LaumanEspanaBarzaghi
  * @version 1.0
  */
@@ -18,32 +36,95 @@ public class EstadoJuegoDTO {
     private final DatosNaveJugador naveJugador;
     private final List<DatosNaveEnemiga> enemigos;
     private final List<DatosProyectil> proyectiles;
-    private final List<DatosMuro> muros;
+    private final CambiosMuros cambiosMuros;
     private final DatosHUD hud;
     private final int nivelActual;
+    /** Número correlativo de la instantánea; permite detectar instantáneas que la vista no llegó a dibujar */
+    private final long numero;
+    /** Número del último tick simulado antes de armar la instantánea */
+    private final long numeroTick;
+    /** Identificador del último evento de entrada que refleja la instantánea, o 0 */
+    private final long idEntrada;
+    /** Instante, según {@link System#nanoTime()}, de ese evento de entrada */
+    private final long instanteEntrada;
+    /** Instante, según {@link System#nanoTime()}, en que se armó la instantánea */
+    private final long instanteArmado;
+    /** Factor de interpolación entre el tick anterior (0) y el actual (1) */
+    private final double alfa;
     
     public EstadoJuegoDTO(String estado, DatosNaveJugador naveJugador, 
                           List<DatosNaveEnemiga> enemigos, 
                           List<DatosProyectil> proyectiles,
-                          List<DatosMuro> muros, 
+                          CambiosMuros cambiosMuros, 
                           DatosHUD hud, 
-                          int nivelActual) {
+                          int nivelActual,
+                          long numero,
+                          long numeroTick,
+                          long idEntrada,
+                          long instanteEntrada,
+                          long instanteArmado,
+                          double alfa) {
         this.estado = estado;
         this.naveJugador = naveJugador;
-        this.enemigos = enemigos;
-        this.proyectiles = proyectiles;
-        this.muros = muros;
+        this.enemigos = Collections.unmodifiableList(enemigos);
+        this.proyectiles = Collections.unmodifiableList(proyectiles);
+        this.cambiosMuros = cambiosMuros;
         this.hud = hud;
         this.nivelActual = nivelActual;
+        this.numero = numero;
+        this.numeroTick = numeroTick;
+        this.idEntrada = idEntrada;
+        this.instanteEntrada = instanteEntrada;
+        this.instanteArmado = instanteArmado;
+        this.alfa = alfa;
+    }
+
+    /** Copia de otra instantánea con otro factor de interpolación; comparte las listas */
+    private EstadoJuegoDTO(EstadoJuegoDTO otra, double alfa) {
+        this.estado = otra.estado;
+        this.naveJugador = otra.naveJugador;
+        this.enemigos = otra.enemigos;
+        this.proyectiles = otra.proyectiles;
+        this.cambiosMuros = otra.cambiosMuros;
+        this.hud = otra.hud;
+        this.nivelActual = otra.nivelActual;
+        this.numero = otra.numero;
+        this.numeroTick = otra.numeroTick;
+        this.idEntrada = otra.idEntrada;
+        this.instanteEntrada = otra.instanteEntrada;
+        this.instanteArmado = otra.instanteArmado;
+        this.alfa = alfa;
+    }
+
+    /**
+     * Obtiene la misma instantánea con otro factor de interpolación, para un fotograma
+     * en el que no se simuló ningún tick. Conserva el número, así que para la vista y
+     * las métricas sigue siendo la misma instantánea.
+     *
+     * @param alfa Valor entre 0 (tick anterior) y 1 (tick actual)
+     * @return Copia que comparte todos los datos salvo el factor
+     */
+    public EstadoJuegoDTO conAlfa(double alfa) {
+        return new EstadoJuegoDTO(this, alfa);
     }
     
     public String getEstado() { return estado; }
     public DatosNaveJugador getNaveJugador() { return naveJugador; }
     public List<DatosNaveEnemiga> getEnemigos() { return enemigos; }
     public List<DatosProyectil> getProyectiles() { return proyectiles; }
-    public List<DatosMuro> getMuros() { return muros; }
+    public CambiosMuros getCambiosMuros() { return cambiosMuros; }
     public DatosHUD getHud() { return hud; }
     public int getNivelActual() { return nivelActual; }
+    public long getNumero() { return numero; }
+    public long getNumeroTick() { return numeroTick; }
+    public long getIdEntrada() { return idEntrada; }
+    public long getInstanteEntrada() { return instanteEntrada; }
+    public long getInstanteArmado() { return instanteArmado; }
+    public double getAlfa() { return alfa; }
+    
+    private static double interpolar(double anterior, double actual, double alfa) {
+        return anterior + (actual - anterior) * alfa;
+    }
     
     /**
      * Datos de la nave del jugador.
@@ -51,18 +132,24 @@ public class EstadoJuegoDTO {
     public static class DatosNaveJugador {
         private final double x;
         private final double y;
+        private final double xAnterior;
+        private final double yAnterior;
         private final int width;
         private final int height;
         
-        public DatosNaveJugador(double x, double y, int width, int height) {
+        public DatosNaveJugador(double x, double y, double xAnterior, double yAnterior, int width, int height) {
             this.x = x;
             this.y = y;
+            this.xAnterior = xAnterior;
+            this.yAnterior = yAnterior;
             this.width = width;
             this.height = height;
         }
         
         public double getX() { return x; }
         public double getY() { return y; }
+        public double getX(double alfa) { return interpolar(xAnterior, x, alfa); }
+        public double getY(double alfa) { return interpolar(yAnterior, y, alfa); }
         public int getWidth() { return width; }
         public int getHeight() { return height; }
     }
@@ -73,18 +160,24 @@ public class EstadoJuegoDTO {
     public static class DatosNaveEnemiga {
         private final double x;
         private final double y;
+        private final double xAnterior;
+        private final double yAnterior;
         private final int width;
         private final int height;
         
-        public DatosNaveEnemiga(double x, double y, int width, int height) {
+        public DatosNaveEnemiga(double x, double y, double xAnterior, double yAnterior, int width, int height) {
             this.x = x;
             this.y = y;
+            this.xAnterior = xAnterior;
+            this.yAnterior = yAnterior;
             this.width = width;
             this.height = height;
         }
         
         public double getX() { return x; }
         public double getY() { return y; }
+        public double getX(double alfa) { return interpolar(xAnterior, x, alfa); }
+        public double getY(double alfa) { return interpolar(yAnterior, y, alfa); }
         public int getWidth() { return width; }
         public int getHeight() { return height; }
     }
@@ -95,13 +188,15 @@ public class EstadoJuegoDTO {
     public static class DatosProyectil {
         private final double x;
         private final double y;
+        private final double yAnterior;
         private final int width;
         private final int height;
         private final boolean fromPlayer;
         
-        public DatosProyectil(double x, double y, int width, int height, boolean fromPlayer) {
+        public DatosProyectil(double x, double y, double yAnterior, int width, int height, boolean fromPlayer) {
             this.x = x;
             this.y = y;
+            this.yAnterior = yAnterior;
             this.width = width;
             this.height = height;
             this.fromPlayer = fromPlayer;
@@ -109,34 +204,65 @@ public class EstadoJuegoDTO {
         
         public double getX() { return x; }
         public double getY() { return y; }
+        public double getY(double alfa) { return interpolar(yAnterior, y, alfa); }
         public int getWidth() { return width; }
         public int getHeight() { return height; }
         public boolean isFromPlayer() { return fromPlayer; }
     }
     
     /**
-     * Datos de un bloque de muro.
+     * Bloques de muro que cambiaron desde la última instantánea que la vista consumió.
+     * 
+     * <p>Cada bloque lleva sus puntos de vida absolutos, así que aplicar dos veces los
+     * mismos cambios, o cambios que se superponen, deja el mismo resultado. Cuando los
+     * muros se vuelven a crear cambia la generación y la instantánea trae todos los
+     * bloques: la vista debe descartar su copia anterior antes de aplicarlos.
+     * 
+     * <p>{@link #SIN_CAMBIOS} es la marca compartida para el caso habitual en que ningún
+     * muro cambió, y no requiere crear objetos.
      */
-    public static class DatosMuro {
-        private final int x;
-        private final int y;
-        private final int width;
-        private final int height;
-        private final int hp;
-        
-        public DatosMuro(int x, int y, int width, int height, int hp) {
-            this.x = x;
-            this.y = y;
-            this.width = width;
-            this.height = height;
-            this.hp = hp;
+    public static class CambiosMuros {
+        /** Marca para instantáneas en las que ningún bloque cambió */
+        public static final CambiosMuros SIN_CAMBIOS =
+            new CambiosMuros(-1, 0, 0, 0, new int[0], new int[0], new int[0], new byte[0]);
+
+        private final int generacion;
+        private final int lado;
+        private final int totalBloques;
+        private final int cantidad;
+        /** Índice de cada bloque entre todos los de la generación: los muros en orden, y en cada uno sus celdas */
+        private final int[] indices;
+        private final int[] xs;
+        private final int[] ys;
+        private final byte[] hps;
+
+        /**
+         * Los arreglos pasan a pertenecer al DTO y no deben modificarse después.
+         */
+        public CambiosMuros(int generacion, int lado, int totalBloques, int cantidad,
+                            int[] indices, int[] xs, int[] ys, byte[] hps) {
+            this.generacion = generacion;
+            this.lado = lado;
+            this.totalBloques = totalBloques;
+            this.cantidad = cantidad;
+            this.indices = indices;
+            this.xs = xs;
+            this.ys = ys;
+            this.hps = hps;
         }
-        
-        public int getX() { return x; }
-        public int getY() { return y; }
-        public int getWidth() { return width; }
-        public int getHeight() { return height; }
-        public int getHp() { return hp; }
+
+        public boolean hayCambios() { return cantidad > 0; }
+        public int getGeneracion() { return generacion; }
+        /** Lado en píxeles de todos los bloques */
+        public int getLado() { return lado; }
+        /** Cantidad de bloques de todos los muros de la generación, vivos o no */
+        public int getTotalBloques() { return totalBloques; }
+        public int getCantidad() { return cantidad; }
+        /** Índice del bloque, entre 0 y {@code getTotalBloques() - 1} */
+        public int getIndice(int i) { return indices[i]; }
+        public int getX(int i) { return xs[i]; }
+        public int getY(int i) { return ys[i]; }
+        public int getHp(int i) { return hps[i]; }
     }
     
     /**
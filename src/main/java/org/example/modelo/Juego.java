@@ -1,12 +1,13 @@
 package org.example.modelo;
 
-import java.awt.Color;
-import java.awt.Graphics2D;
-import java.awt.event.KeyEvent;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
+import java.util.SplittableRandom;
+import org.example.metricas.MetricasJuego;
+import org.example.metricas.eventos.*;
 import org.example.modelo.entidad.*;
+import org.example.modelo.entrada.Accion;
+import org.example.modelo.entrada.EstadoEntrada;
 
 /**
  * Clase principal que representa el estado y lógica del juego Space Invaders.
@@ -17,9 +18,17 @@ import org.example.modelo.entidad.*;
  *   <li>Entidades del juego (nave del jugador, enemigos, proyectiles, muros)</li>
  *   <li>Sistema de niveles progresivos</li>
  *   <li>Sistema de puntuación y ranking</li>
- *   <li>Renderizado del juego</li>
  * </ul>
  * 
+ * <p>Es un núcleo de simulación puro: no depende de AWT ni de Swing, por lo que puede
+ * ejecutarse con {@code -Djava.awt.headless=true}. La vista obtiene lo que necesita
+ * dibujar mediante {@link #obtenerEstadoParaRenderizado()}.
+ * 
+ * <p>Cada tick mide la duración de sus fases y cuenta las entidades vivas en
+ * {@link MetricasJuego} (ver {@link #getMetricas()}), y emite eventos de JFR
+ * ({@code org.example.metricas.eventos}) por cada tick, cada resolución de colisiones,
+ * cada transición de nivel y el comienzo y el fin de cada partida.
+ * 
  * <p>El juego sigue un patrón de estados donde:
  * <ul>
  *   <li>MENU: Estado inicial del juego</li>
@@ -39,27 +48,67 @@ public class Juego {
 
     private String estado;
     private Partida partida;
-    // Nota: La clase Nivel existe pero no se utiliza actualmente.
-    // El sistema de niveles funciona con nivelActual (int) y se incrementa dinámicamente.
-    // private List<Nivel> niveles; // Reservado para futuras mejoras
     private Ranking ranking;
-    private final List<Proyectil> proyectiles;
+    private final AlmacenProyectiles proyectiles;
     private JugadorEnJuego jugadorEnJuego;
     private NaveJugador naveJugador;
-    private List<NaveEnemiga> enemigos;
+    private RejillaFormacion formacion;
+    private AlienFormation alienFormation;
+    /** Generador raíz de la sesión; cada partida recibe uno derivado con split() */
+    private final SplittableRandom rngSesion;
     private List<MuroEnergia> muros;
+    /** Fase amplia de colisiones contra muros, reutilizada en cada tick */
+    private final GrillaEspacial grillaMuros = new GrillaEspacial(WIDTH, HEIGHT, 40);
+    /** Aumenta cada vez que se vuelven a crear los muros */
+    private int generacionMuros = 0;
+    /** Versión de cada muro que la vista ya tiene con seguridad */
+    private int[] versionMurosConfirmada = new int[0];
+    /** Versión de cada muro incluida en la última instantánea armada */
+    private int[] versionMurosEnviada = new int[0];
     private int nivelActual = 1;
+    /** Nivel con que comenzó la partida en curso: 1, salvo en los escenarios */
+    private int nivelInicial = 1;
+    /** Cantidad de instantáneas armadas para la vista */
+    private long instantaneasArmadas = 0;
+    /** Cantidad de ticks simulados; identifica al tick que produjo cada instantánea */
+    private long ticksSimulados = 0;
+    /** Identificador e instante del último evento de entrada que aplicó un tick */
+    private long ultimoEventoEntrada = 0;
+    private long instanteUltimoEventoEntrada = 0;
     private double nivelMensajeTimer = 0; // segundos para mostrar "Nivel X" en pantalla negra
+    /** Duración de las fases del tick y entidades vivas, siempre medidas */
+    private final MetricasJuego metricas = new MetricasJuego();
+    /** Evento de JFR de la partida en curso, que se graba al terminarla */
+    private EventoPartidaTerminada eventoPartida;
+    /** Tick en que comenzó la partida en curso */
+    private long tickInicioPartida = 0;
+    /** Evento de JFR de la transición de nivel en curso, o null */
+    private EventoTransicionNivel eventoTransicion;
 
     /**
      * Constructor de la clase Juego.
      * Inicializa todas las estructuras de datos necesarias y establece el estado inicial como MENU.
+     * Las decisiones aleatorias usan una semilla distinta en cada ejecución.
      */
     public Juego() {
-        // this.niveles = new ArrayList<>(); // No se usa actualmente
-        this.proyectiles = new ArrayList<>();
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Crea un juego cuyas decisiones aleatorias dependen sólo de la semilla indicada:
+     * con la misma semilla y la misma entrada, la secuencia de partidas se repite
+     * exactamente.
+     * 
+     * @param semilla Semilla del generador aleatorio de la sesión
+     */
+    public Juego(long semilla) {
+        this(new SplittableRandom(semilla));
+    }
+
+    private Juego(SplittableRandom rngSesion) {
+        this.rngSesion = rngSesion;
+        this.proyectiles = new AlmacenProyectiles();
         this.ranking = new Ranking();
-        this.enemigos = new ArrayList<>();
         this.muros = new ArrayList<>();
         this.estado = "MENU";
     }
@@ -78,60 +127,102 @@ public class Juego {
      * </ul>
      */
     public void inicializarPartida() {
+        prepararPartida(new JugadorEnJuego());
+        
+        // Inicializar enemigos y muros
+        inicializarEnemigos(Nivel.paraNumero(nivelActual));
+        inicializarMuros();
+        new EventoPartidaIniciada().registrar("estandar", formacion.getVivos(), jugadorEnJuego.getVidas(), 0);
+    }
+
+    /**
+     * Inicializa una nueva partida a partir de un escenario de prueba.
+     * 
+     * <p>Como {@link #inicializarPartida()}, pero el primer nivel, las vidas del jugador
+     * y la densidad de los muros salen del escenario, y se reparten al azar por la
+     * pantalla sus proyectiles enemigos iniciales. La partida lleva el número del nivel
+     * del escenario, y al superarlo sigue con el siguiente nivel estándar. Las decisiones al azar usan el
+     * generador de la sesión, así que con la misma semilla el escenario se repite.
+     * 
+     * @param escenario Configuración de la partida
+     */
+    public void inicializarPartida(Escenario escenario) {
+        prepararPartida(new JugadorEnJuego(escenario.getVidas()));
+        nivelActual = escenario.getNivel().getNumero();
+        nivelInicial = nivelActual;
+        inicializarEnemigos(escenario.getNivel());
+        inicializarMuros();
+
+        SplittableRandom rng = rngSesion.split();
+        if (escenario.getDensidadMuros() < 1) {
+            for (MuroEnergia muro : muros) {
+                muro.reconstruir(3, escenario.getDensidadMuros(), rng);
+            }
+        }
+        for (int i = 0; i < escenario.getProyectilesIniciales(); i++) {
+            proyectiles.dispararEnemigo(rng.nextDouble() * WIDTH, rng.nextDouble() * HEIGHT);
+        }
+        new EventoPartidaIniciada().registrar(escenario.getNombre(), formacion.getVivos(),
+            escenario.getVidas(), escenario.getProyectilesIniciales());
+    }
+
+    /**
+     * Reinicia el estado común a toda partida nueva: nivel, jugador, nave y generador
+     * de la formación.
+     */
+    private void prepararPartida(JugadorEnJuego jugador) {
         // Limpiar todo el estado anterior
-        this.proyectiles.clear();
-        this.enemigos.clear();
+        this.proyectiles.limpiar();
         this.muros.clear();
         
         // Reiniciar nivel y estado
         this.nivelActual = 1;
+        this.nivelInicial = 1;
         this.nivelMensajeTimer = 0;
         this.estado = "EN_JUEGO";
         
         // Crear nueva partida y jugador
         this.partida = new Partida();
         this.partida.iniciarPartida();
-        this.jugadorEnJuego = new JugadorEnJuego();
+        this.jugadorEnJuego = jugador;
         
         // Reiniciar nave del jugador en posición inicial
         this.naveJugador = new NaveJugador(WIDTH / 2 - 20, HEIGHT - 80, 40, 20, 300);
         
-        // Reiniciar formación de enemigos (importante: resetear velocidad y dirección)
-        AlienFormation.resetForLevel(1);
+        // Nueva formación con su propio generador, derivado del de la sesión
+        this.alienFormation = new AlienFormation(rngSesion.split());
         
-        // Inicializar enemigos y muros
-        inicializarEnemigos();
-        inicializarMuros();
+        // La duración de la partida y de la transición se graban en eventos de JFR
+        this.eventoPartida = new EventoPartidaTerminada();
+        this.eventoPartida.begin();
+        this.tickInicioPartida = ticksSimulados;
+        this.eventoTransicion = null;
     }
 
     /**
-     * Inicializa la formación de enemigos según el nivel actual.
+     * Inicializa la formación de enemigos según la configuración de un nivel.
      * 
-     * <p>El número de filas de enemigos aumenta con el nivel:
+     * <p>En el juego normal el tamaño, la velocidad y la cadencia de disparo se obtienen de
+     * {@link Nivel#paraNumero(int)}:
      * <ul>
      *   <li>Nivel 1: 1 fila de enemigos</li>
      *   <li>Cada nivel adicional agrega una fila hasta un máximo de 5 filas</li>
      *   <li>Siempre se crean 11 columnas de enemigos</li>
      * </ul>
      * 
-     * <p>También reinicia la configuración de movimiento de AlienFormation.
+     * <p>Las formaciones que no entran en la pantalla con la separación clásica (sólo
+     * posibles en escenarios de prueba) se comprimen hasta ocupar el ancho disponible y
+     * la mitad superior.
+     * 
+     * <p>También reinicia la configuración de movimiento y disparo de AlienFormation.
      */
-    private void inicializarEnemigos() {
-        enemigos.clear();
-        int rows = Math.min(5, Math.max(1, nivelActual)); // Nivel 1: 1 fila; cada nivel agrega una fila hasta 5
-        int cols = 11; // ancho clásico fijo
+    private void inicializarEnemigos(Nivel nivel) {
         int startX = 80;
         int startY = 80;
-        int hGap = 40;
-        int vGap = 30;
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                int x = startX + c * hGap;
-                int y = startY + r * vGap;
-                enemigos.add(new NaveEnemiga(x, y, 30, 20));
-            }
-        }
-        AlienFormation.resetForLevel(nivelActual);
+        double hGap = Math.min(40, (WIDTH - 2.0 * startX) / Math.max(1, nivel.getColumnas()));
+        double vGap = Math.min(30, (HEIGHT / 2.0 - startY) / Math.max(1, nivel.getFilas()));
+        formacion = new RejillaFormacion(nivel.getColumnas(), nivel.getFilas(), startX, startY, hGap, vGap, 30, 20);
+        alienFormation.resetForLevel(nivel);
     }
 
     /**
@@ -147,6 +238,10 @@ public class Juego {
         for (int baseX : bases) {
             muros.add(MuroEnergia.createBlock(baseX - 30, baseY, 60, 30, 3));
         }
+        // Muros nuevos: la próxima instantánea debe llevarlos completos
+        generacionMuros++;
+        versionMurosConfirmada = new int[muros.size()];
+        versionMurosEnviada = new int[muros.size()];
     }
 
     /**
@@ -162,121 +257,114 @@ public class Juego {
      *   <li>Verificación de condiciones de fin de juego o avance de nivel</li>
      * </ul>
      * 
-     * @param deltaSeconds Tiempo transcurrido desde el último frame en segundos
-     * @param pressedKeys Conjunto de códigos de teclas actualmente presionadas
+     * @param deltaSeconds Duración fija del tick de simulación en segundos
+     * @param entrada Acciones del jugador activas en este tick
      */
-    public void update(double deltaSeconds, Set<Integer> pressedKeys) {
+    public void update(double deltaSeconds, EstadoEntrada entrada) {
+        EventoTick evento = EventoTick.habilitado() ? new EventoTick() : null;
+        if (evento != null) {
+            evento.begin();
+        }
+        long bytes = MetricasJuego.bytesAsignadosDelHilo();
+        long inicio = System.nanoTime();
+        simularTick(deltaSeconds, entrada);
+        metricas.getTick().registrarDesde(inicio);
+        registrarEntidades();
+        metricas.sumarBytesAsignados(MetricasJuego.bytesAsignadosDelHilo() - bytes);
+        if (evento != null) {
+            evento.registrar(ticksSimulados, estado, metricas.getEnemigosVivos(),
+                proyectiles.getCantidad(), metricas.getBloquesMuroVivos());
+        }
+    }
+
+    private void simularTick(double deltaSeconds, EstadoEntrada entrada) {
+        ticksSimulados++;
+        ultimoEventoEntrada = entrada.getUltimoEvento();
+        instanteUltimoEventoEntrada = entrada.getInstanteUltimoEvento();
+
         if ("TRANSICION_NIVEL".equals(estado)) {
             nivelMensajeTimer -= deltaSeconds;
             if (nivelMensajeTimer <= 0) {
-                inicializarEnemigos();
+                inicializarEnemigos(Nivel.paraNumero(nivelActual));
                 estado = "EN_JUEGO";
+                if (eventoTransicion != null) {
+                    eventoTransicion.registrar(nivelActual, jugadorEnJuego.getPuntaje());
+                    eventoTransicion = null;
+                }
             }
             return;
         }
         if (!"EN_JUEGO".equals(estado)) return;
 
-        boolean left = pressedKeys.contains(KeyEvent.VK_LEFT) || pressedKeys.contains(KeyEvent.VK_A);
-        boolean right = pressedKeys.contains(KeyEvent.VK_RIGHT) || pressedKeys.contains(KeyEvent.VK_D);
-        boolean shoot = pressedKeys.contains(KeyEvent.VK_SPACE);
+        boolean left = entrada.estaActiva(Accion.IZQUIERDA);
+        boolean right = entrada.estaActiva(Accion.DERECHA);
+        boolean shoot = entrada.estaActiva(Accion.DISPARAR);
 
+        // Posiciones del tick anterior para la interpolación del renderizado
+        naveJugador.guardarPosicionAnterior();
+        formacion.guardarPosicionAnterior();
+
+        long marca = System.nanoTime();
         naveJugador.update(deltaSeconds, left, right, shoot, proyectiles);
+        marca = metricas.getEntrada().registrarDesde(marca);
 
-        AlienFormation.update(enemigos, deltaSeconds, proyectiles);
+        alienFormation.update(formacion, deltaSeconds, proyectiles);
+        marca = metricas.getFormacion().registrarDesde(marca);
 
-        for (Proyectil p : new ArrayList<>(proyectiles)) {
-            p.update(deltaSeconds);
-            if (p.getY() < -20 || p.getY() > HEIGHT + 20) {
-                proyectiles.remove(p);
-            }
-        }
+        proyectiles.actualizar(deltaSeconds, -20, HEIGHT + 20);
+        marca = metricas.getProyectiles().registrarDesde(marca);
 
-        ResolverColisiones.resolver(proyectiles, enemigos, muros, naveJugador, jugadorEnJuego);
+        EventoColisiones eventoColisiones = EventoColisiones.habilitado() ? new EventoColisiones() : null;
+        int proyectilesAntes = proyectiles.getCantidad();
+        int enemigosAntes = formacion.getVivos();
+        if (eventoColisiones != null) {
+            eventoColisiones.begin();
+        }
+        ResolverColisiones.resolver(proyectiles, formacion, muros, naveJugador, jugadorEnJuego,
+                grillaMuros);
+        metricas.getColisiones().registrarDesde(marca);
+        if (eventoColisiones != null) {
+            eventoColisiones.registrar(proyectilesAntes, proyectiles.getCantidad(), enemigosAntes, formacion.getVivos());
+        }
         if (jugadorEnJuego.sinVidas()) {
             estado = "GAME_OVER";
+            eventoPartida.registrar(jugadorEnJuego.getPuntaje(), getNivelesSuperados(),
+                ticksSimulados - tickInicioPartida);
             return;
         }
 
-        if (enemigos.isEmpty()) {
+        if (formacion.getVivos() == 0) {
             nivelActual++;
             nivelMensajeTimer = 2.0; // 2 segundos de pantalla de nivel
-            proyectiles.clear();
+            proyectiles.limpiar();
             estado = "TRANSICION_NIVEL";
+            eventoTransicion = new EventoTransicionNivel();
+            eventoTransicion.begin();
             return;
         }
     }
 
     /**
-     * Renderiza el estado actual del juego en el contexto gráfico proporcionado.
-     * 
-     * <p>Dependiendo del estado del juego, renderiza:
-     * <ul>
-     *   <li>EN_JUEGO: Todas las entidades, HUD con puntuación, nivel y vidas</li>
-     *   <li>TRANSICION_NIVEL: Pantalla negra con mensaje del nivel</li>
-     *   <li>MENU: Mensaje de bienvenida</li>
-     *   <li>GAME_OVER: Mensaje de fin de juego con puntuación</li>
-     * </ul>
-     * 
-     * @param g Contexto gráfico donde se dibuja el juego
+     * Cuenta las entidades vivas al final del tick, sin recorrerlas.
      */
-    public void render(Graphics2D g) {
-        g.setColor(Color.black);
-        g.fillRect(0, 0, WIDTH, HEIGHT);
-
-        if ("EN_JUEGO".equals(estado)) {
-            naveJugador.render(g);
-            for (NaveEnemiga e : enemigos) e.render(g);
-            
-            // Fondo para la franja de escudos
-            int escudosY = HEIGHT - 140;
-            int escudosHeight = 60;
-            g.setColor(new Color(20, 20, 40)); // Fondo oscuro azulado
-            g.fillRect(0, escudosY - 10, WIDTH, escudosHeight + 20);
-            
-            for (MuroEnergia m : muros) m.render(g);
-            for (Proyectil p : proyectiles) p.render(g);
-
-            // HUD reorganizado
-            g.setColor(Color.white);
-            g.setFont(g.getFont().deriveFont(20f));
-            g.drawString("Score: " + jugadorEnJuego.getPuntaje(), 16, 28);
-            g.drawString("Nivel: " + nivelActual, 16, 52);
-            
-            // Vidas debajo del nivel
-            int circles = jugadorEnJuego.getVidas();
-            int size = 16;
-            int pad = 6;
-            int startX = 16;
-            int startY = 76; // Debajo del nivel (52 + 24)
-            for (int i = 0; i < circles; i++) {
-                int x = startX + i * (size + pad);
-                g.setColor(Color.green);
-                g.fillOval(x, startY, size, size);
-                g.setColor(Color.white);
-                g.drawOval(x, startY, size, size);
-            }
-
-        } else if ("TRANSICION_NIVEL".equals(estado)) {
-            g.setColor(Color.black);
-            g.fillRect(0, 0, WIDTH, HEIGHT);
-            g.setColor(Color.white);
-            g.setFont(g.getFont().deriveFont(36f));
-            String msg = "Nivel " + nivelActual;
-            // centrado aproximado
-            int textWidth = g.getFontMetrics().stringWidth(msg);
-            g.drawString(msg, (WIDTH - textWidth) / 2, HEIGHT / 2);
-        } else if ("MENU".equals(estado)) {
-            g.setColor(Color.white);
-            g.setFont(g.getFont().deriveFont(22f));
-            g.drawString("Space Invaders - Presiona Enter", WIDTH / 2 - 160, HEIGHT / 2);
-        } else if ("GAME_OVER".equals(estado)) {
-            g.setColor(Color.red);
-            g.setFont(g.getFont().deriveFont(36f));
-            g.drawString("GAME OVER", WIDTH / 2 - 120, HEIGHT / 2 - 20);
-            g.setColor(Color.white);
-            g.setFont(g.getFont().deriveFont(20f));
-            g.drawString("Puntaje: " + jugadorEnJuego.getPuntaje(), WIDTH / 2 - 80, HEIGHT / 2 + 18);
+    private void registrarEntidades() {
+        int bloques = 0;
+        for (int m = 0; m < muros.size(); m++) {
+            bloques += muros.get(m).getBloquesVivos();
         }
+        int delJugador = proyectiles.getCantidadDelJugador();
+        metricas.registrarEntidades(formacion != null ? formacion.getVivos() : 0,
+            delJugador, proyectiles.getCantidad() - delJugador, bloques);
+    }
+
+    /**
+     * Obtiene las métricas de rendimiento de la simulación. La vista registra en ellas,
+     * además, la duración del dibujo.
+     * 
+     * @return Métricas de este juego, que duran lo mismo que él
+     */
+    public MetricasJuego getMetricas() {
+        return metricas;
     }
 
     /**
@@ -288,6 +376,15 @@ public class Juego {
         return estado;
     }
 
+    /**
+     * Obtiene cuánto falta para que termine la pantalla de transición de nivel.
+     * 
+     * @return Segundos restantes, o 0 si el juego no está en transición
+     */
+    public double getTiempoTransicionRestante() {
+        return "TRANSICION_NIVEL".equals(estado) ? Math.max(0, nivelMensajeTimer) : 0;
+    }
+
     /**
      * Obtiene el nivel actual en el que se encuentra el jugador.
      * 
@@ -318,29 +415,65 @@ public class Juego {
     /**
      * Calcula cuántos niveles fueron superados exitosamente.
      * 
-     * <p>Si el jugador perdió en el nivel X, significa que superó X-1 niveles.
+     * <p>Si el jugador perdió en el nivel X, significa que superó X-1 niveles. En los
+     * escenarios que comienzan en un nivel mayor, sólo cuentan los que superó desde ése.
      * 
      * @return Número de niveles superados (0 o más)
      */
     public int getNivelesSuperados() {
-        // Los niveles superados son nivelActual - 1 (si perdiste en el nivel X, superaste X-1)
-        return Math.max(0, nivelActual - 1);
+        // Si comenzaste en el nivel 1 y perdiste en el X, superaste X-1
+        return Math.max(0, nivelActual - nivelInicial);
     }
     
+    /**
+     * Obtiene el estado actual del juego como DTO para renderizado, suponiendo que la
+     * vista consumió la instantánea anterior, sin interpolar con el tick anterior.
+     * 
+     * @return EstadoJuegoDTO con todos los datos necesarios para renderizar
+     * @see #obtenerEstadoParaRenderizado(boolean, double)
+     */
+    public EstadoJuegoDTO obtenerEstadoParaRenderizado() {
+        return obtenerEstadoParaRenderizado(true, 1.0);
+    }
+
     /**
      * Obtiene el estado actual del juego como DTO para renderizado.
      * Este método permite que la vista obtenga los datos necesarios sin conocer
      * las clases internas del modelo.
      * 
+     * <p>Debe llamarse desde el hilo que actualiza el juego: el DTO resultante es una
+     * copia independiente e inmutable que luego puede leerse desde cualquier hilo.
+     * 
+     * <p>De los muros sólo se incluyen los bloques que la vista todavía no tiene. Si la
+     * instantánea anterior no llegó a consumirse (por ejemplo, porque fue reemplazada
+     * antes de dibujarse), sus cambios se repiten en ésta para que no se pierdan.
+     * 
+     * <p>La instantánea lleva además el número del último tick simulado, el último
+     * evento de entrada aplicado y el instante en que se armó, para medir latencias.
+     * 
+     * @param anteriorConsumido true si la vista ya tomó la instantánea anterior
+     * @param alfa Factor de interpolación con que se dibujará, entre 0 (tick anterior)
+     *             y 1 (tick actual)
      * @return EstadoJuegoDTO con todos los datos necesarios para renderizar
      */
-    public EstadoJuegoDTO obtenerEstadoParaRenderizado() {
+    public EstadoJuegoDTO obtenerEstadoParaRenderizado(boolean anteriorConsumido, double alfa) {
+        long bytes = MetricasJuego.bytesAsignadosDelHilo();
+        long inicio = System.nanoTime();
+        EstadoJuegoDTO instantanea = armarEstado(anteriorConsumido, alfa);
+        metricas.getInstantanea().registrarDesde(inicio);
+        metricas.sumarBytesAsignados(MetricasJuego.bytesAsignadosDelHilo() - bytes);
+        return instantanea;
+    }
+
+    private EstadoJuegoDTO armarEstado(boolean anteriorConsumido, double alfa) {
         // Datos de la nave del jugador
         EstadoJuegoDTO.DatosNaveJugador datosNaveJugador = null;
         if (naveJugador != null) {
             datosNaveJugador = new EstadoJuegoDTO.DatosNaveJugador(
                 naveJugador.getX(), 
                 naveJugador.getY(), 
+                naveJugador.getXAnterior(),
+                naveJugador.getYAnterior(),
                 naveJugador.getWidth(), 
                 naveJugador.getHeight()
             );
@@ -348,46 +481,35 @@ public class Juego {
         
         // Datos de los enemigos
         List<EstadoJuegoDTO.DatosNaveEnemiga> datosEnemigos = new ArrayList<>();
-        if (enemigos != null) {
-            for (NaveEnemiga enemigo : enemigos) {
+        if (formacion != null) {
+            for (int slot = 0; slot < formacion.getCantidadSlots(); slot++) {
+                if (!formacion.estaVivo(slot)) continue;
                 datosEnemigos.add(new EstadoJuegoDTO.DatosNaveEnemiga(
-                    enemigo.getX(),
-                    enemigo.getY(),
-                    enemigo.getWidth(),
-                    enemigo.getHeight()
+                    formacion.getX(slot),
+                    formacion.getY(slot),
+                    formacion.getXAnterior(slot),
+                    formacion.getYAnterior(slot),
+                    formacion.getAnchoNave(),
+                    formacion.getAltoNave()
                 ));
             }
         }
         
         // Datos de los proyectiles
         List<EstadoJuegoDTO.DatosProyectil> datosProyectiles = new ArrayList<>();
-        if (proyectiles != null) {
-            for (Proyectil p : proyectiles) {
-                datosProyectiles.add(new EstadoJuegoDTO.DatosProyectil(
-                    p.getX(),
-                    p.getY(),
-                    4, // width
-                    10, // height
-                    p.isFromPlayer()
-                ));
-            }
+        for (int i = 0; i < proyectiles.getCantidad(); i++) {
+            datosProyectiles.add(new EstadoJuegoDTO.DatosProyectil(
+                proyectiles.getX(i),
+                proyectiles.getY(i),
+                proyectiles.getYAnterior(i),
+                AlmacenProyectiles.ANCHO,
+                AlmacenProyectiles.ALTO,
+                proyectiles.isDelJugador(i)
+            ));
         }
         
-        // Datos de los muros
-        List<EstadoJuegoDTO.DatosMuro> datosMuros = new ArrayList<>();
-        if (muros != null) {
-            for (MuroEnergia muro : muros) {
-                for (MuroEnergia.BloqueDatos bloque : muro.getBloques()) {
-                    datosMuros.add(new EstadoJuegoDTO.DatosMuro(
-                        bloque.getX(),
-                        bloque.getY(),
-                        bloque.getWidth(),
-                        bloque.getHeight(),
-                        bloque.getHp()
-                    ));
-                }
-            }
-        }
+        // Cambios de los muros
+        EstadoJuegoDTO.CambiosMuros cambiosMuros = obtenerCambiosMuros(anteriorConsumido);
         
         // Datos del HUD
         EstadoJuegoDTO.DatosHUD datosHUD = null;
@@ -404,9 +526,50 @@ public class Juego {
             datosNaveJugador,
             datosEnemigos,
             datosProyectiles,
-            datosMuros,
+            cambiosMuros,
             datosHUD,
-            nivelActual
+            nivelActual,
+            ++instantaneasArmadas,
+            ticksSimulados,
+            ultimoEventoEntrada,
+            instanteUltimoEventoEntrada,
+            System.nanoTime(),
+            alfa
         );
     }
+
+    /**
+     * Reúne los bloques de muro que cambiaron desde la última versión confirmada.
+     * En el caso habitual, sin impactos, no crea objetos. Los cambios ya confirmados
+     * se descartan de cada muro, así que sólo se recorren los pendientes.
+     */
+    private EstadoJuegoDTO.CambiosMuros obtenerCambiosMuros(boolean anteriorConsumido) {
+        if (anteriorConsumido) {
+            System.arraycopy(versionMurosEnviada, 0, versionMurosConfirmada, 0, versionMurosEnviada.length);
+            for (int m = 0; m < muros.size(); m++) {
+                muros.get(m).descartarCambiosHasta(versionMurosConfirmada[m]);
+            }
+        }
+        int cantidad = 0;
+        for (int m = 0; m < muros.size(); m++) {
+            cantidad += muros.get(m).contarCambiosDesde(versionMurosConfirmada[m]);
+        }
+        if (cantidad == 0) {
+            return EstadoJuegoDTO.CambiosMuros.SIN_CAMBIOS;
+        }
+        int[] indices = new int[cantidad];
+        int[] xs = new int[cantidad];
+        int[] ys = new int[cantidad];
+        byte[] hps = new byte[cantidad];
+        int i = 0;
+        int base = 0;
+        for (int m = 0; m < muros.size(); m++) {
+            MuroEnergia muro = muros.get(m);
+            i = muro.copiarCambiosDesde(versionMurosConfirmada[m], base, indices, xs, ys, hps, i);
+            versionMurosEnviada[m] = muro.getVersion();
+            base += muro.getCantidadCeldas();
+        }
+        return new EstadoJuegoDTO.CambiosMuros(generacionMuros, MuroEnergia.LADO_BLOQUE, base, cantidad,
+                                               indices, xs, ys, hps);
+    }
 }
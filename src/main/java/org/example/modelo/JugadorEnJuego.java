@@ -22,8 +22,21 @@ public class JugadorEnJuego {
      * Constructor que inicializa el jugador con 3 vidas y puntuación 0.
      */
     public JugadorEnJuego() {
+        this(3);
+    }
+
+    /**
+     * Constructor que inicializa el jugador con la cantidad de vidas indicada y
+     * puntuación 0. Lo usan los escenarios de prueba.
+     * 
+     * @param vidas Vidas iniciales
+     */
+    public JugadorEnJuego(int vidas) {
+        if (vidas <= 0) {
+            throw new IllegalArgumentException("Las vidas iniciales deben ser positivas: " + vidas);
+        }
         this.puntaje = 0;
-        this.vidas = 3;
+        this.vidas = vidas;
     }
 
     /**
@@ -47,7 +60,7 @@ public class JugadorEnJuego {
     /**
      * Obtiene el número de vidas restantes.
      * 
-     * @return Vidas restantes (0 a 3)
+     * @return Vidas restantes (de 0 a las vidas iniciales)
      */
     public int getVidas() {
         return vidas;
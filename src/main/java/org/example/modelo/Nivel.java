@@ -1,24 +1,81 @@
 package org.example.modelo;
 
 /**
- * Clase reservada para futuras mejoras del sistema de niveles.
+ * Configuración de dificultad de un nivel.
  * 
- * <p>Actualmente no se utiliza en el código. El sistema de niveles
- * funciona mediante un simple entero (nivelActual) que se incrementa
- * dinámicamente cuando se completan todos los enemigos.
- * 
- * <p>Esta clase podría implementarse en el futuro para:
+ * <p>Reúne los parámetros que cambian de un nivel a otro:
  * <ul>
- *   <li>Configuraciones específicas por nivel</li>
- *   <li>Diferentes patrones de enemigos</li>
- *   <li>Velocidades y dificultades personalizadas</li>
- *   <li>Oleadas predefinidas</li>
+ *   <li>Tamaño de la formación enemiga (filas y columnas)</li>
+ *   <li>Velocidad inicial de la formación</li>
+ *   <li>Cadencia de disparo enemigo, en disparos por segundo de cada enemigo vivo</li>
  * </ul>
  * 
+ * <p>La cadencia de toda la formación es la de cada enemigo por la cantidad de enemigos
+ * vivos, así que baja a medida que se los destruye.
+ * 
+ * <p>El sistema de niveles sigue avanzando con un simple entero (nivelActual);
+ * {@link #paraNumero(int)} traduce ese número a su configuración.
+ * 
  * @author LaumanEspanaBarzaghi
  * @version 1.0
- * @deprecated No se utiliza actualmente. El sistema usa nivelActual (int).
  */
 public class Nivel {
-    // Reservado para futuras implementaciones
+    /**
+     * Cadencia por enemigo de los niveles estándar: la probabilidad de 0.002 por tick a
+     * 60 Hz con que disparaba cada enemigo antes de sortear los disparos como un proceso
+     * de Poisson. La formación completa de 55 dispara unas 6.6 veces por segundo.
+     */
+    public static final double DISPAROS_POR_ENEMIGO = 0.002 * 60;
+
+    private final int numero;
+    private final int filas;
+    private final int columnas;
+    private final double velocidadInicial;
+    private final double disparosPorSegundoPorEnemigo;
+
+    /**
+     * Crea una configuración de nivel explícita.
+     * 
+     * @param numero Número de nivel (1, 2, 3, ...)
+     * @param filas Filas de la formación enemiga
+     * @param columnas Columnas de la formación enemiga
+     * @param velocidadInicial Velocidad horizontal inicial de la formación, en píxeles por segundo
+     * @param disparosPorSegundoPorEnemigo Tasa media de disparos de cada enemigo vivo
+     */
+    public Nivel(int numero, int filas, int columnas, double velocidadInicial, double disparosPorSegundoPorEnemigo) {
+        if (disparosPorSegundoPorEnemigo < 0) {
+            throw new IllegalArgumentException("La tasa de disparo no puede ser negativa: " + disparosPorSegundoPorEnemigo);
+        }
+        this.numero = numero;
+        this.filas = filas;
+        this.columnas = columnas;
+        this.velocidadInicial = velocidadInicial;
+        this.disparosPorSegundoPorEnemigo = disparosPorSegundoPorEnemigo;
+    }
+
+    /**
+     * Obtiene la configuración estándar de un nivel.
+     * 
+     * <ul>
+     *   <li>Nivel 1: 1 fila; cada nivel agrega una fila hasta un máximo de 5</li>
+     *   <li>Siempre 11 columnas (ancho clásico)</li>
+     *   <li>La velocidad sube 12 px/s por nivel</li>
+     *   <li>Cada enemigo dispara {@value #DISPAROS_POR_ENEMIGO} veces por segundo en
+     *       todos los niveles; la dificultad sube con las filas y la velocidad</li>
+     * </ul>
+     * 
+     * @param numero Número de nivel (1, 2, 3, ...)
+     * @return Configuración del nivel
+     */
+    public static Nivel paraNumero(int numero) {
+        int filas = Math.min(5, Math.max(1, numero));
+        double velocidad = 40 + numero * 12;
+        return new Nivel(numero, filas, 11, velocidad, DISPAROS_POR_ENEMIGO);
+    }
+
+    public int getNumero() { return numero; }
+    public int getFilas() { return filas; }
+    public int getColumnas() { return columnas; }
+    public double getVelocidadInicial() { return velocidadInicial; }
+    public double getDisparosPorSegundoPorEnemigo() { return disparosPorSegundoPorEnemigo; }
 }
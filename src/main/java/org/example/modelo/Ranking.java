@@ -1,89 +1,144 @@
 package org.example.modelo;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.example.metricas.eventos.EventoPuntuacionRegistrada;
 
 /**
  * Clase que gestiona el sistema de ranking del juego.
- * 
- * <p>Mantiene las 5 puntuaciones más altas registradas, ordenadas de mayor a menor.
- * Cada entrada contiene el nombre del jugador, niveles superados y puntuación obtenida.
- * 
- * <p>El ranking se ordena automáticamente después de cada inserción, manteniendo
- * solo las mejores puntuaciones.
- * 
+ *
+ * <p>Conserva todas las puntuaciones registradas, ordenadas de mayor a menor; a igual
+ * puntuación, va primero la registrada antes. Cada entrada contiene el nombre del
+ * jugador, niveles superados y puntuación obtenida. Al final de una partida se ofrece
+ * registrar la puntuación si entra entre las {@value #TOP} mejores, que son las que
+ * se muestran.
+ *
+ * <p>Las entradas se guardan en un conjunto ordenado concurrente, y la cantidad de
+ * entradas por puntuación en un {@link ConteoPuntuaciones}. Cada entrada lleva su orden
+ * entre las de igual puntuación (0, 1, 2...), así que la k-ésima de un empate se ubica
+ * directamente en el conjunto. Registrar una entrada, consultar la posición de una
+ * puntuación y ubicar el comienzo de una página cuestan O(log n), y recorrer una página
+ * o las mejores k entradas, O(k). Puede usarse desde varios hilos a la vez sin bloqueos;
+ * las consultas simultáneas con un registro pueden no verlo todavía.
+ *
+ * <p>Cada inserción emite un evento de JFR ({@link EventoPuntuacionRegistrada}).
+ *
  * @author LaumanEspanaBarzaghi
  * @version 1.0
  */
 public class Ranking {
-    /** Número máximo de entradas que se mantienen en el ranking */
-    private static final int MAX_ENTRADAS = 5;
-    private List<EntradaRanking> entradas;
+    /** Número de entradas que se muestran, y a las que se ofrece registrar una puntuación */
+    private static final int TOP = 5;
+
+    private final ConcurrentSkipListSet<EntradaRanking> entradas = new ConcurrentSkipListSet<>();
+    private final ConteoPuntuaciones conteo = new ConteoPuntuaciones();
+    private final AtomicInteger cantidad = new AtomicInteger();
 
     /**
      * Constructor que inicializa el ranking vacío.
      */
     public Ranking() {
-        this.entradas = new ArrayList<>();
     }
 
     /**
-     * Agrega una nueva entrada al ranking y mantiene solo las top 5.
-     * 
-     * <p>La entrada se inserta, se ordena el ranking por puntuación descendente,
-     * y se eliminan las entradas que excedan el máximo permitido.
-     * 
+     * Agrega una nueva entrada al ranking, detrás de las de igual puntuación ya
+     * registradas.
+     *
      * @param nombre Nombre del jugador
      * @param nivelesSuperados Cantidad de niveles superados en la partida
      * @param puntuacion Puntuación obtenida
      */
     public void agregarEntrada(String nombre, int nivelesSuperados, int puntuacion) {
-        entradas.add(new EntradaRanking(nombre, nivelesSuperados, puntuacion));
-        Collections.sort(entradas);
-        
-        // Mantener solo las top 5
-        if (entradas.size() > MAX_ENTRADAS) {
-            entradas = entradas.subList(0, MAX_ENTRADAS);
-        }
+        EventoPuntuacionRegistrada evento = new EventoPuntuacionRegistrada();
+        evento.begin();
+        long orden = conteo.registrar(puntuacion);
+        entradas.add(new EntradaRanking(nombre, nivelesSuperados, puntuacion, orden));
+        cantidad.incrementAndGet();
+        long posicion = conteo.contarMayores(puntuacion, true);
+        evento.registrar(nombre, puntuacion, nivelesSuperados, (int) Math.min(Integer.MAX_VALUE, posicion));
     }
 
     /**
      * Verifica si una puntuación es suficiente para entrar en el ranking.
-     * 
-     * <p>Una puntuación es válida si:
-     * <ul>
-     *   <li>El ranking tiene menos de 5 entradas, o</li>
-     *   <li>La puntuación es mayor que la puntuación más baja del ranking</li>
-     * </ul>
-     * 
+     *
+     * <p>Una puntuación es válida si hay menos de 5 entradas con una puntuación igual o
+     * mayor, es decir, si al registrarla quedaría entre las 5 mejores.
+     *
      * @param puntuacion Puntuación a verificar
      * @return true si la puntuación entra en el top 5, false en caso contrario
      */
     public boolean esPuntuacionValida(int puntuacion) {
-        // Verifica si la puntuación es suficiente para entrar en el ranking
-        if (entradas.size() < MAX_ENTRADAS) {
-            return true;
-        }
-        // Si hay 5 entradas, verifica si la puntuación es mayor que la más baja
-        return puntuacion > entradas.get(entradas.size() - 1).getPuntuacion();
+        return conteo.contarMayores(puntuacion, true) < TOP;
+    }
+
+    /**
+     * Obtiene la posición que corresponde a una puntuación: una más que la cantidad de
+     * entradas con puntuación mayor. Las puntuaciones iguales comparten la posición.
+     *
+     * @param puntuacion Puntuación a ubicar
+     * @return Posición, desde 1
+     */
+    public long getPosicion(int puntuacion) {
+        return conteo.contarMayores(puntuacion, false) + 1;
     }
 
     /**
      * Obtiene una copia de las entradas del ranking ordenadas de mayor a menor puntuación.
-     * 
-     * @return Lista inmutable de las entradas del ranking (top 5)
+     *
+     * @return Lista de las entradas del ranking (top 5)
      */
     public List<EntradaRanking> getTop5() {
-        return new ArrayList<>(entradas);
+        return getTop(TOP);
+    }
+
+    /**
+     * Obtiene las mejores entradas del ranking, de mayor a menor puntuación.
+     *
+     * @param cantidad Cantidad máxima de entradas
+     * @return Lista con hasta esa cantidad de entradas
+     */
+    public List<EntradaRanking> getTop(int cantidad) {
+        return getPagina(0, cantidad);
+    }
+
+    /**
+     * Obtiene las entradas del ranking a partir de una posición, de mayor a menor
+     * puntuación.
+     *
+     * @param desde Cantidad de entradas que se saltean, desde la mejor
+     * @param cantidad Cantidad máxima de entradas
+     * @return Lista con hasta esa cantidad de entradas, vacía si no hay tantas
+     */
+    public List<EntradaRanking> getPagina(long desde, int cantidad) {
+        if (desde < 0 || cantidad < 0) {
+            throw new IllegalArgumentException("Página inválida: desde " + desde + ", cantidad " + cantidad);
+        }
+        List<EntradaRanking> pagina = new ArrayList<>(Math.min(cantidad, TOP));
+        Integer puntuacion = conteo.buscar(desde);
+        if (puntuacion == null || cantidad == 0) {
+            return pagina;
+        }
+
+        // Las empatadas anteriores son las de orden menor: se empieza por la de orden
+        // igual a las que quedan por saltear
+        long orden = desde - conteo.contarMayores(puntuacion, false);
+        EntradaRanking primera = new EntradaRanking(null, 0, puntuacion, orden);
+        Iterator<EntradaRanking> it = entradas.tailSet(primera, true).iterator();
+        while (it.hasNext() && pagina.size() < cantidad) {
+            pagina.add(it.next());
+        }
+        return pagina;
     }
 
     /**
      * Obtiene la cantidad actual de entradas en el ranking.
-     * 
-     * @return Número de entradas (0 a MAX_ENTRADAS)
+     *
+     * @return Número de entradas registradas
      */
     public int getCantidadEntradas() {
-        return entradas.size();
+        return cantidad.get();
     }
 }
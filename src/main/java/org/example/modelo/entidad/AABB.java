@@ -0,0 +1,58 @@
+package org.example.modelo.entidad;
+
+/**
+ * Caja delimitadora alineada a los ejes (Axis-Aligned Bounding Box) en coordenadas enteras.
+ * 
+ * <p>Reemplaza a {@code java.awt.Rectangle} dentro del modelo para que la simulación
+ * no dependa del toolkit de AWT y pueda ejecutarse en modo headless. Respeta la misma
+ * semántica que {@code Rectangle.intersects}: las cajas se solapan sólo si comparten
+ * área (tocarse en un borde no cuenta) y una caja sin ancho o alto nunca intersecta.
+ * 
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ */
+public final class AABB {
+    private final int x;
+    private final int y;
+    private final int width;
+    private final int height;
+
+    public AABB(int x, int y, int width, int height) {
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Verifica si esta caja se solapa con otra.
+     * 
+     * @param otra Caja a comparar
+     * @return true si ambas cajas comparten área
+     */
+    public boolean intersecta(AABB otra) {
+        return intersectan(x, y, width, height, otra.x, otra.y, otra.width, otra.height);
+    }
+
+    /**
+     * Verifica si dos cajas se solapan sin necesidad de instanciarlas.
+     * 
+     * @return true si ambas cajas comparten área
+     */
+    public static boolean intersectan(int ax, int ay, int aw, int ah,
+                                      int bx, int by, int bw, int bh) {
+        if (aw <= 0 || ah <= 0 || bw <= 0 || bh <= 0) {
+            return false;
+        }
+        // Se compara en long para evitar desbordes con coordenadas extremas
+        return (long) ax < (long) bx + bw
+            && (long) bx < (long) ax + aw
+            && (long) ay < (long) by + bh
+            && (long) by < (long) ay + ah;
+    }
+
+    public int getX() { return x; }
+    public int getY() { return y; }
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+}
@@ -1,9 +1,9 @@
 package org.example.modelo.entidad;
 
 import org.example.modelo.Juego;
+import org.example.modelo.Nivel;
 
-import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * Gestiona el movimiento y comportamiento de la formación completa de enemigos.
@@ -16,22 +16,53 @@ import java.util.Random;
  *   <li>Disparos aleatorios desde las naves enemigas</li>
  * </ul>
  * 
- * <p>Utiliza un patrón de diseño estático donde no se instancia la clase,
- * sino que se usan métodos estáticos para gestionar la formación.
+ * <p>Los disparos siguen un proceso de Poisson cuya tasa es la de cada enemigo, que fija
+ * el nivel, por la cantidad de enemigos vivos: en promedio, lo mismo que si cada enemigo
+ * sorteara su disparo en cada tick. La espera hasta el próximo disparo se sortea con una
+ * distribución exponencial de media 1, y cada tick la descuenta según la tasa vigente,
+ * así que la cadencia sigue a los enemigos vivos. Al cumplirse, dispara el enemigo más
+ * bajo de una columna elegida al azar. El costo por tick depende de la cantidad de
+ * disparos y no del tamaño de la formación.
+ * 
+ * <p>Cada partida tiene su propia instancia, con su dirección, velocidad y generador
+ * aleatorio, de modo que varios juegos pueden simularse a la vez en el mismo proceso
+ * sin interferir entre sí. El generador se inyecta desde {@link org.example.modelo.Juego},
+ * por lo que con la misma semilla los disparos enemigos son reproducibles.
  * 
  * @author LaumanEspanaBarzaghi
  * @version 1.0
  */
 public class AlienFormation {
-    private static double direction = 1;
-    private static double speed = 40;
-    private static double stepDown = 2; // baja pocos píxeles como el original
-    private static final Random rng = new Random();
+    private double direction = 1;
+    private double speed = 40;
+    private double stepDown = 2; // baja pocos píxeles como el original
+    private double disparosPorEnemigo;
+    /** Espera hasta el próximo disparo, en disparos esperados: se descuenta tasa * dt por tick */
+    private double esperaDisparo;
+    private final SplittableRandom rng;
+
+    /**
+     * @param rng Generador aleatorio de la partida, usado para decidir los disparos
+     */
+    public AlienFormation(SplittableRandom rng) {
+        this.rng = rng;
+    }
 
-    public static void resetForLevel(int level) {
+    public void resetForLevel(Nivel nivel) {
         direction = 1;
-        speed = 40 + level * 12; // sube más por nivel
+        speed = nivel.getVelocidadInicial(); // sube más por nivel
         stepDown = 2; // baja fina por rebote
+        disparosPorEnemigo = nivel.getDisparosPorSegundoPorEnemigo();
+        esperaDisparo = sortearEsperaDisparo();
+    }
+
+    /**
+     * Sortea la espera hasta el próximo disparo: en un proceso de Poisson, la cantidad
+     * esperada de eventos entre uno y el siguiente sigue una distribución exponencial
+     * de media 1, cualquiera sea la tasa y aunque ésta cambie.
+     */
+    private double sortearEsperaDisparo() {
+        return -Math.log(1.0 - rng.nextDouble());
     }
 
 
@@ -40,52 +71,44 @@ public class AlienFormation {
      * 
      * Gestiona el movimiento horizontal de la formación, el rebote en los bordes,
      * el descenso gradual y la generación de disparos aleatorios desde las naves enemigas.
+     * El movimiento se aplica sobre el origen de la formación, por lo que su costo no
+     * depende de la cantidad de enemigos.
      * 
-     * @param enemigos Lista de enemigos en la formación
+     * @param formacion Formación de enemigos
      * @param dt Tiempo delta entre frames
-     * @param proyectiles Lista de proyectiles generados
+     * @param proyectiles Almacén donde se generan los disparos enemigos
      */
-    public static void update(List<NaveEnemiga> enemigos, double dt, List<Proyectil> proyectiles) {
+    public void update(RejillaFormacion formacion, double dt, AlmacenProyectiles proyectiles) {
         // Si no hay enemigos, no hay nada que actualizar
-        if (enemigos.isEmpty()) return;
+        if (formacion.getVivos() == 0) return;
         double dx = speed * direction * dt;
 
-        // Calcular los bordes de la formación
-        double minX = Double.MAX_VALUE;
-        double maxX = -Double.MAX_VALUE;
-        for (NaveEnemiga e : enemigos) {
-            minX = Math.min(minX, e.x);
-            maxX = Math.max(maxX, e.x + e.width);
-        }
-
         // Verificar si la formación ha chocado con los bordes
-        boolean hitLeft = (minX + dx) < 10;
-        boolean hitRight = (maxX + dx) > (Juego.WIDTH - 10);
+        boolean hitLeft = (formacion.getBordeIzquierdo() + dx) < 10;
+        boolean hitRight = (formacion.getBordeDerecho() + dx) > (Juego.WIDTH - 10);
 
         // Si la formación ha chocado con los bordes, rebotar
         if (hitLeft || hitRight) {
             // Rebotar: bajar un poco y cambiar dirección, sin salirse del borde
             direction *= -1;
-            for (NaveEnemiga e : enemigos) {
-                e.y += stepDown;
-            }
+            formacion.desplazar(0, stepDown);
             // Aumentar la velocidad de la formación
             // Si la velocidad es mayor que 260, no aumentarla más
             speed = Math.min(260, speed + 6);
         } else {
             // Si no ha chocado con los bordes, mover la formación lateralmente
             // Movimiento lateral normal
-            for (NaveEnemiga e : enemigos) {
-                e.x += dx;
-            }
+            formacion.desplazar(dx, 0);
         }
 
-        // Disparos aleatorios desde la formación
-        for (NaveEnemiga e : enemigos) {
-            if (rng.nextDouble() < 0.002) {
-                proyectiles.add(Proyectil.enemyBullet(e.x + e.width / 2.0, e.y + e.height));
-            }
+        // Disparos: uno por cada espera exponencial cumplida en este tick, con la tasa
+        // de los enemigos vivos
+        esperaDisparo -= disparosPorEnemigo * formacion.getVivos() * dt;
+        while (esperaDisparo <= 0) {
+            int slot = formacion.getSlotTirador(rng.nextInt(formacion.getCantidadColumnasVivas()));
+            proyectiles.dispararEnemigo(formacion.getX(slot) + formacion.getAnchoNave() / 2.0,
+                formacion.getY(slot) + formacion.getAltoNave());
+            esperaDisparo += sortearEsperaDisparo();
         }
     }
 }
-
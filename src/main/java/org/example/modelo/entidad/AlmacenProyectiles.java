@@ -0,0 +1,151 @@
+package org.example.modelo.entidad;
+
+import java.util.Arrays;
+
+/**
+ * Almacén de todos los proyectiles en juego, organizado como estructura de arreglos.
+ *
+ * <p>En lugar de un objeto por proyectil, cada atributo (posición, velocidad, dueño)
+ * se guarda en un arreglo primitivo paralelo. Los proyectiles vivos ocupan siempre las
+ * posiciones {@code [0, getCantidad())}, lo que permite:
+ * <ul>
+ *   <li>Integrar todos los proyectiles en un único bucle sobre memoria contigua</li>
+ *   <li>Eliminar en O(1) moviendo el último proyectil al hueco (swap-and-pop)</li>
+ *   <li>Disparar sin crear objetos: los arreglos sólo crecen si se supera la capacidad</li>
+ * </ul>
+ *
+ * <p>No hay lista de huecos libres ni identificadores estables: el almacén es denso y
+ * un índice sólo vale hasta la próxima eliminación. Eliminar reordena los proyectiles,
+ * pero no altera el recorrido en curso: {@link #actualizar} y
+ * {@link ResolverColisiones#resolver} van del último índice al primero, así que el que
+ * se mueve al hueco ya fue procesado y los que faltan conservan su orden. Cada
+ * proyectil se visita una sola vez por pasada, y los impactos se deciden en el mismo
+ * orden que si se lo hubiera quitado de una lista.
+ *
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ */
+public class AlmacenProyectiles {
+    /** Ancho de todo proyectil en píxeles */
+    public static final int ANCHO = 4;
+    /** Alto de todo proyectil en píxeles */
+    public static final int ALTO = 10;
+    private static final double VELOCIDAD_JUGADOR = -500;
+    private static final double VELOCIDAD_ENEMIGO = 240;
+
+    private double[] xs;
+    private double[] ys;
+    private double[] ysAnteriores;
+    private double[] vys;
+    private boolean[] delJugador;
+    private int cantidad;
+    /** Cuántos de los proyectiles vivos son del jugador */
+    private int cantidadDelJugador;
+
+    public AlmacenProyectiles() {
+        this(256);
+    }
+
+    /**
+     * @param capacidadInicial Cantidad de proyectiles que admite antes de crecer
+     */
+    public AlmacenProyectiles(int capacidadInicial) {
+        int capacidad = Math.max(1, capacidadInicial);
+        xs = new double[capacidad];
+        ys = new double[capacidad];
+        ysAnteriores = new double[capacidad];
+        vys = new double[capacidad];
+        delJugador = new boolean[capacidad];
+    }
+
+    /**
+     * Dispara un proyectil del jugador (hacia arriba).
+     */
+    public void dispararJugador(double x, double y) {
+        agregar(x, y, VELOCIDAD_JUGADOR, true);
+    }
+
+    /**
+     * Dispara un proyectil enemigo (hacia abajo).
+     */
+    public void dispararEnemigo(double x, double y) {
+        agregar(x, y, VELOCIDAD_ENEMIGO, false);
+    }
+
+    private void agregar(double x, double y, double vy, boolean jugador) {
+        if (cantidad == xs.length) {
+            crecer();
+        }
+        int i = cantidad++;
+        xs[i] = x;
+        ys[i] = y;
+        ysAnteriores[i] = y;
+        vys[i] = vy;
+        delJugador[i] = jugador;
+        if (jugador) cantidadDelJugador++;
+    }
+
+    /**
+     * Avanza todos los proyectiles y elimina los que salen de la franja vertical indicada.
+     *
+     * @param dt Duración del tick en segundos
+     * @param yMinima Coordenada y por debajo de la cual el proyectil se descarta
+     * @param yMaxima Coordenada y por encima de la cual el proyectil se descarta
+     */
+    public void actualizar(double dt, double yMinima, double yMaxima) {
+        for (int i = cantidad - 1; i >= 0; i--) {
+            double y = ys[i];
+            ysAnteriores[i] = y;
+            y += vys[i] * dt;
+            ys[i] = y;
+            if (y < yMinima || y > yMaxima) {
+                eliminar(i);
+            }
+        }
+    }
+
+    /**
+     * Elimina el proyectil ubicado en el índice dado moviendo el último a su lugar.
+     *
+     * <p>Al recorrer el almacén de atrás hacia adelante es seguro eliminar el
+     * proyectil actual: el que ocupa su lugar ya fue procesado.
+     *
+     * @param i Índice entre 0 y {@code getCantidad() - 1}
+     */
+    public void eliminar(int i) {
+        int ultimo = --cantidad;
+        if (delJugador[i]) cantidadDelJugador--;
+        if (i != ultimo) {
+            xs[i] = xs[ultimo];
+            ys[i] = ys[ultimo];
+            ysAnteriores[i] = ysAnteriores[ultimo];
+            vys[i] = vys[ultimo];
+            delJugador[i] = delJugador[ultimo];
+        }
+    }
+
+    /**
+     * Elimina todos los proyectiles.
+     */
+    public void limpiar() {
+        for (int i = cantidad - 1; i >= 0; i--) {
+            eliminar(i);
+        }
+    }
+
+    private void crecer() {
+        int capacidad = xs.length * 2;
+        xs = Arrays.copyOf(xs, capacidad);
+        ys = Arrays.copyOf(ys, capacidad);
+        ysAnteriores = Arrays.copyOf(ysAnteriores, capacidad);
+        vys = Arrays.copyOf(vys, capacidad);
+        delJugador = Arrays.copyOf(delJugador, capacidad);
+    }
+
+    public int getCantidad() { return cantidad; }
+    public int getCantidadDelJugador() { return cantidadDelJugador; }
+    public double getX(int i) { return xs[i]; }
+    public double getY(int i) { return ys[i]; }
+    public double getYAnterior(int i) { return ysAnteriores[i]; }
+    public boolean isDelJugador(int i) { return delJugador[i]; }
+}
@@ -0,0 +1,204 @@
+package org.example.modelo.entidad;
+
+import java.util.Arrays;
+
+/**
+ * Grilla uniforme que actúa como fase amplia (broadphase) de la detección de colisiones.
+ *
+ * <p>Divide el mundo en celdas cuadradas y registra en cada celda los identificadores
+ * de las cajas que la tocan. Así, una consulta sólo evalúa las cajas de las celdas que
+ * cubre el área consultada en lugar de recorrer todas las entidades del juego.
+ *
+ * <p>Se reconstruye completa en cada tick con un ordenamiento por conteo:
+ * <ol>
+ *   <li>{@link #comenzar(int)} indica cuántas cajas se van a registrar</li>
+ *   <li>{@link #agregar(int, int, int, int, int)} registra cada caja con su identificador</li>
+ *   <li>{@link #construir()} reparte las cajas en las celdas</li>
+ * </ol>
+ *
+ * <p>Todos los arreglos internos se reutilizan entre ticks y sólo crecen cuando aumenta
+ * la cantidad de cajas, por lo que en régimen estable no genera basura. Las coordenadas
+ * fuera del mundo se asignan a las celdas del borde.
+ *
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ */
+public class GrillaEspacial {
+    private final int tamCelda;
+    private final int columnas;
+    private final int filas;
+
+    /** Índice de la primera entrada de cada celda; la celda c ocupa [inicio[c], inicio[c + 1]) */
+    private final int[] inicio;
+    private int[] entradas = new int[0];
+
+    private int[] xs = new int[0];
+    private int[] ys = new int[0];
+    private int[] anchos = new int[0];
+    private int[] altos = new int[0];
+    private int cantidad;
+
+    /** Marca por caja para no evaluar dos veces una caja que ocupa varias celdas */
+    private int[] marca = new int[0];
+    private int marcaActual;
+
+    private int[] resultado = new int[16];
+
+    /**
+     * Crea una grilla que cubre el rectángulo [0, ancho) x [0, alto).
+     *
+     * @param ancho Ancho del mundo en píxeles
+     * @param alto Alto del mundo en píxeles
+     * @param tamCelda Lado de cada celda en píxeles
+     */
+    public GrillaEspacial(int ancho, int alto, int tamCelda) {
+        if (tamCelda <= 0) {
+            throw new IllegalArgumentException("El tamaño de celda debe ser positivo: " + tamCelda);
+        }
+        this.tamCelda = tamCelda;
+        this.columnas = Math.max(1, (ancho + tamCelda - 1) / tamCelda);
+        this.filas = Math.max(1, (alto + tamCelda - 1) / tamCelda);
+        this.inicio = new int[columnas * filas + 1];
+    }
+
+    /**
+     * Descarta el contenido anterior y prepara la grilla para registrar cajas.
+     *
+     * @param cantidad Cantidad de cajas; sus identificadores van de 0 a cantidad - 1
+     */
+    public void comenzar(int cantidad) {
+        if (xs.length < cantidad) {
+            int capacidad = Math.max(cantidad, xs.length * 2);
+            xs = new int[capacidad];
+            ys = new int[capacidad];
+            anchos = new int[capacidad];
+            altos = new int[capacidad];
+            marca = new int[capacidad];
+            marcaActual = 0;
+        }
+        this.cantidad = cantidad;
+    }
+
+    /**
+     * Registra una caja. Debe llamarse una vez por identificador entre
+     * {@link #comenzar(int)} y {@link #construir()}.
+     */
+    public void agregar(int id, int x, int y, int ancho, int alto) {
+        xs[id] = x;
+        ys[id] = y;
+        anchos[id] = ancho;
+        altos[id] = alto;
+    }
+
+    /**
+     * Reparte las cajas registradas en las celdas que ocupan.
+     */
+    public void construir() {
+        Arrays.fill(inicio, 0);
+
+        // Conteo de entradas por celda (desplazado en uno para acumular luego)
+        int total = 0;
+        for (int id = 0; id < cantidad; id++) {
+            int c0 = columna(xs[id]);
+            int c1 = columna(xs[id] + anchos[id] - 1);
+            int f0 = fila(ys[id]);
+            int f1 = fila(ys[id] + altos[id] - 1);
+            for (int f = f0; f <= f1; f++) {
+                for (int c = c0; c <= c1; c++) {
+                    inicio[f * columnas + c + 1]++;
+                    total++;
+                }
+            }
+        }
+        for (int i = 1; i < inicio.length; i++) {
+            inicio[i] += inicio[i - 1];
+        }
+        if (entradas.length < total) {
+            entradas = new int[Math.max(total, entradas.length * 2)];
+        }
+
+        // Llenado: se usa inicio[c] como cursor y al terminar queda corrido una celda
+        for (int id = 0; id < cantidad; id++) {
+            int c0 = columna(xs[id]);
+            int c1 = columna(xs[id] + anchos[id] - 1);
+            int f0 = fila(ys[id]);
+            int f1 = fila(ys[id] + altos[id] - 1);
+            for (int f = f0; f <= f1; f++) {
+                for (int c = c0; c <= c1; c++) {
+                    entradas[inicio[f * columnas + c]++] = id;
+                }
+            }
+        }
+        for (int i = inicio.length - 1; i > 0; i--) {
+            inicio[i] = inicio[i - 1];
+        }
+        inicio[0] = 0;
+    }
+
+    /**
+     * Busca las cajas que intersectan el área indicada.
+     *
+     * <p>Los identificadores encontrados quedan ordenados de menor a mayor y se leen con
+     * {@link #getCandidato(int)}; son válidos hasta la siguiente consulta.
+     *
+     * @return Cantidad de cajas encontradas
+     */
+    public int consultar(int x, int y, int ancho, int alto) {
+        if (ancho <= 0 || alto <= 0) {
+            return 0;
+        }
+        if (++marcaActual == 0) {
+            Arrays.fill(marca, 0);
+            marcaActual = 1;
+        }
+        int encontrados = 0;
+        int c0 = columna(x);
+        int c1 = columna(x + ancho - 1);
+        int f0 = fila(y);
+        int f1 = fila(y + alto - 1);
+        for (int f = f0; f <= f1; f++) {
+            for (int c = c0; c <= c1; c++) {
+                int celda = f * columnas + c;
+                for (int k = inicio[celda]; k < inicio[celda + 1]; k++) {
+                    int id = entradas[k];
+                    if (marca[id] == marcaActual) continue;
+                    marca[id] = marcaActual;
+                    if (AABB.intersectan(x, y, ancho, alto, xs[id], ys[id], anchos[id], altos[id])) {
+                        encontrados = insertarOrdenado(id, encontrados);
+                    }
+                }
+            }
+        }
+        return encontrados;
+    }
+
+    /**
+     * Obtiene el i-ésimo resultado de la última consulta.
+     */
+    public int getCandidato(int i) {
+        return resultado[i];
+    }
+
+    private int insertarOrdenado(int id, int cantidadActual) {
+        if (cantidadActual == resultado.length) {
+            resultado = Arrays.copyOf(resultado, resultado.length * 2);
+        }
+        int i = cantidadActual;
+        while (i > 0 && resultado[i - 1] > id) {
+            resultado[i] = resultado[i - 1];
+            i--;
+        }
+        resultado[i] = id;
+        return cantidadActual + 1;
+    }
+
+    private int columna(int x) {
+        int c = Math.floorDiv(x, tamCelda);
+        return c < 0 ? 0 : (c >= columnas ? columnas - 1 : c);
+    }
+
+    private int fila(int y) {
+        int f = Math.floorDiv(y, tamCelda);
+        return f < 0 ? 0 : (f >= filas ? filas - 1 : f);
+    }
+}
@@ -1,8 +1,7 @@
 package org.example.modelo.entidad;
 
-import java.awt.*;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
+import java.util.SplittableRandom;
 
 /**
  * Representa un muro de energía defensivo que protege al jugador.
@@ -14,79 +13,255 @@ import java.util.List;
  * <p>Los muros se crean mediante un método estático de fábrica que divide
  * el área en bloques pequeños para permitir destrucción parcial.
  * 
+ * <p>Los bloques forman una grilla regular de celdas de {@value #CELDA} píxeles, así que
+ * los puntos de vida se guardan en un arreglo plano de bytes indexado por celda y el
+ * impacto se resuelve calculando directamente qué celdas cubre el proyectil, sin
+ * recorrer el muro completo.
+ * 
+ * <p>Cada impacto incrementa un número de versión y marca la celda afectada con esa
+ * versión, de modo que se puede consultar qué celdas cambiaron desde cualquier versión
+ * anterior sin volcar el muro completo. Un muro recién creado tiene todas sus celdas
+ * marcadas con la versión 1. Las celdas impactadas se anotan además, en orden, en una
+ * lista de cambios pendientes que se descarta a medida que se confirman
+ * ({@link #descartarCambiosHasta(int)}); las consultas recorren sólo esa lista, y
+ * recorren el muro completo únicamente si piden cambios que ya no están en ella.
+ * 
  * @author LaumanEspanaBarzaghi
  * @version 1.0
  */
 public class MuroEnergia {
-    private final List<Block> blocks;
+    /** Distancia en píxeles entre el origen de dos bloques consecutivos */
+    public static final int CELDA = 6;
+    /** Lado visible de cada bloque; el píxel restante queda como separación */
+    public static final int LADO_BLOQUE = CELDA - 1;
+
+    private final int x;
+    private final int y;
+    private final int columnas;
+    private final int filas;
+    /** Puntos de vida por celda, en orden fila por fila */
+    private final byte[] hp;
+    /** Versión del muro en la que cambió por última vez cada celda */
+    private final int[] versionCelda;
+    private int version = 1;
+    /**
+     * Celdas impactadas todavía no descartadas, en orden: la última cambió en la versión
+     * actual y cada una en la versión siguiente a la anterior. Puede repetir celdas
+     */
+    private final int[] celdasCambiadas;
+    private int cantidadCambiadas;
+    /** Cantidad de bloques con puntos de vida */
+    private int bloquesVivos;
+    private final AABB bounds;
 
-    private MuroEnergia(List<Block> blocks) {
-        this.blocks = blocks;
+    private MuroEnergia(int x, int y, int columnas, int filas, int hpInicial) {
+        this.x = x;
+        this.y = y;
+        this.columnas = columnas;
+        this.filas = filas;
+        this.hp = new byte[columnas * filas];
+        Arrays.fill(hp, (byte) hpInicial);
+        this.bloquesVivos = hpInicial > 0 ? hp.length : 0;
+        this.versionCelda = new int[columnas * filas];
+        Arrays.fill(versionCelda, version);
+        this.celdasCambiadas = new int[columnas * filas];
+        int ancho = columnas > 0 ? (columnas - 1) * CELDA + LADO_BLOQUE : 0;
+        int alto = filas > 0 ? (filas - 1) * CELDA + LADO_BLOQUE : 0;
+        this.bounds = new AABB(x, y, ancho, alto);
     }
 
     public static MuroEnergia createBlock(int x, int y, int width, int height, int hp) {
-        List<Block> list = new ArrayList<>();
-        int cell = 6;
-        for (int yy = y; yy < y + height; yy += cell) {
-            for (int xx = x; xx < x + width; xx += cell) {
-                list.add(new Block(xx, yy, cell - 1, cell - 1, hp));
-            }
+        if (hp < 0 || hp > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("HP de bloque fuera de rango: " + hp);
         }
-        return new MuroEnergia(list);
+        int columnas = Math.max(0, (width + CELDA - 1) / CELDA);
+        int filas = Math.max(0, (height + CELDA - 1) / CELDA);
+        return new MuroEnergia(x, y, columnas, filas, hp);
     }
 
-    public void render(Graphics2D g) {
-        g.setColor(new Color(0, 180, 0));
-        for (Block b : blocks) {
-            if (b.hp > 0) g.fillRect(b.x, b.y, b.w, b.h);
-        }
+    /**
+     * Obtiene la caja que envuelve a todos los bloques del muro, vivos o destruidos.
+     * 
+     * @return Límites del muro
+     */
+    public AABB getBounds() {
+        return bounds;
     }
 
-    public boolean hit(Rectangle r) {
-        for (Block b : blocks) {
-            if (b.hp > 0 && r.intersects(new Rectangle(b.x, b.y, b.w, b.h))) {
-                b.hp--;
-                return true;
+    /**
+     * Aplica un impacto sobre el primer bloque vivo (en orden fila por fila) que
+     * se solapa con el área indicada, restándole un punto de vida.
+     * 
+     * <p>El costo depende sólo del tamaño del área consultada, no de la cantidad de
+     * bloques del muro, y no crea objetos.
+     * 
+     * @return true si algún bloque recibió el impacto
+     */
+    public boolean hit(int x, int y, int width, int height) {
+        if (!AABB.intersectan(x, y, width, height,
+                bounds.getX(), bounds.getY(), bounds.getWidth(), bounds.getHeight())) {
+            return false;
+        }
+        // Bloque c ocupa [this.x + c*CELDA, this.x + c*CELDA + LADO_BLOQUE): se solapa con
+        // [x, x + width) si x - this.x - LADO_BLOQUE < c*CELDA < x + width - this.x
+        int c0 = Math.max(0, Math.floorDiv(x - this.x - LADO_BLOQUE, CELDA) + 1);
+        int c1 = Math.min(columnas - 1, Math.floorDiv(x + width - 1 - this.x, CELDA));
+        int f0 = Math.max(0, Math.floorDiv(y - this.y - LADO_BLOQUE, CELDA) + 1);
+        int f1 = Math.min(filas - 1, Math.floorDiv(y + height - 1 - this.y, CELDA));
+        for (int f = f0; f <= f1; f++) {
+            int base = f * columnas;
+            for (int c = c0; c <= c1; c++) {
+                if (hp[base + c] > 0) {
+                    if (--hp[base + c] == 0) bloquesVivos--;
+                    versionCelda[base + c] = ++version;
+                    anotarCambio(base + c);
+                    return true;
+                }
             }
         }
         return false;
     }
 
     /**
-     * Obtiene los bloques del muro para renderizado.
+     * Agrega una celda a los cambios pendientes. Si la lista está llena se vacía: las
+     * consultas por versiones anteriores recorren entonces el muro completo.
+     */
+    private void anotarCambio(int celda) {
+        if (cantidadCambiadas == celdasCambiadas.length) {
+            cantidadCambiadas = 0;
+        }
+        celdasCambiadas[cantidadCambiadas++] = celda;
+    }
+
+    /**
+     * Vuelve a armar todos los bloques del muro, dejando vivo cada uno con la
+     * probabilidad indicada. Sirve para preparar muros erosionados en escenarios de
+     * prueba; todas las celdas quedan marcadas con una versión nueva.
+     * 
+     * @param hpInicial Puntos de vida de los bloques que quedan vivos
+     * @param densidad Probabilidad, entre 0 y 1, de que cada bloque quede vivo
+     * @param rng Generador con que se decide cada bloque
+     */
+    public void reconstruir(int hpInicial, double densidad, SplittableRandom rng) {
+        if (hpInicial < 0 || hpInicial > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("HP de bloque fuera de rango: " + hpInicial);
+        }
+        version++;
+        cantidadCambiadas = 0;
+        bloquesVivos = 0;
+        for (int celda = 0; celda < hp.length; celda++) {
+            hp[celda] = rng.nextDouble() < densidad ? (byte) hpInicial : 0;
+            versionCelda[celda] = version;
+            if (hp[celda] > 0) bloquesVivos++;
+        }
+    }
+
+    /**
+     * Cantidad de bloques que todavía tienen puntos de vida.
+     */
+    public int getBloquesVivos() {
+        return bloquesVivos;
+    }
+
+    /**
+     * Versión actual del muro; aumenta con cada impacto recibido.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Cantidad de celdas del muro, con bloque vivo o no.
+     */
+    public int getCantidadCeldas() {
+        return hp.length;
+    }
+
+    /**
+     * Descarta de los cambios pendientes los de una versión dada o anteriores, una vez
+     * que ya no van a volver a pedirse.
+     * 
+     * @param versionConfirmada Versión hasta la que se descartan los cambios
+     */
+    public void descartarCambiosHasta(int versionConfirmada) {
+        int descartados = cantidadCambiadas - (version - versionConfirmada);
+        if (descartados <= 0) return;
+        cantidadCambiadas -= descartados;
+        System.arraycopy(celdasCambiadas, descartados, celdasCambiadas, 0, cantidadCambiadas);
+    }
+
+    /**
+     * Cuenta las celdas que cambiaron después de una versión dada.
      * 
-     * @return Lista de bloques con sus datos (x, y, width, height, hp)
+     * @param desdeVersion Versión de referencia (0 para contar todas las celdas)
+     * @return Cantidad de celdas cuya última modificación es posterior a esa versión
      */
-    public List<BloqueDatos> getBloques() {
-        List<BloqueDatos> resultado = new ArrayList<>();
-        for (Block b : blocks) {
-            resultado.add(new BloqueDatos(b.x, b.y, b.w, b.h, b.hp));
+    public int contarCambiosDesde(int desdeVersion) {
+        if (desdeVersion >= version) return 0;
+        int cantidad = 0;
+        int primero = primerCambioDesde(desdeVersion);
+        if (primero < 0) {
+            for (int v : versionCelda) {
+                if (v > desdeVersion) cantidad++;
+            }
+        } else {
+            for (int k = primero; k < cantidadCambiadas; k++) {
+                if (esUltimoCambio(k)) cantidad++;
+            }
         }
-        return resultado;
+        return cantidad;
     }
-    
+
     /**
-     * Clase de datos para exponer información de los bloques sin exponer la clase interna.
+     * Copia la posición, el índice y los puntos de vida de las celdas que cambiaron
+     * después de una versión dada, las mismas que cuenta {@link #contarCambiosDesde(int)}.
+     * 
+     * @param desdeVersion Versión de referencia
+     * @param base Índice de la primera celda de este muro entre las de todos los muros
+     * @param indices Destino del índice de cada bloque, {@code base} más su celda
+     * @param xs Destino de la coordenada x de cada bloque
+     * @param ys Destino de la coordenada y de cada bloque
+     * @param hps Destino de los puntos de vida de cada bloque
+     * @param desde Primera posición a escribir en los destinos
+     * @return Posición siguiente a la última escrita
      */
-    public static class BloqueDatos {
-        private final int x, y, w, h, hp;
-        public BloqueDatos(int x, int y, int w, int h, int hp) {
-            this.x = x;
-            this.y = y;
-            this.w = w;
-            this.h = h;
-            this.hp = hp;
+    public int copiarCambiosDesde(int desdeVersion, int base, int[] indices, int[] xs, int[] ys, byte[] hps, int desde) {
+        if (desdeVersion >= version) return desde;
+        int i = desde;
+        int primero = primerCambioDesde(desdeVersion);
+        if (primero < 0) {
+            for (int celda = 0; celda < versionCelda.length; celda++) {
+                if (versionCelda[celda] > desdeVersion) {
+                    copiarCelda(celda, base, indices, xs, ys, hps, i++);
+                }
+            }
+        } else {
+            for (int k = primero; k < cantidadCambiadas; k++) {
+                if (esUltimoCambio(k)) {
+                    copiarCelda(celdasCambiadas[k], base, indices, xs, ys, hps, i++);
+                }
+            }
         }
-        public int getX() { return x; }
-        public int getY() { return y; }
-        public int getWidth() { return w; }
-        public int getHeight() { return h; }
-        public int getHp() { return hp; }
+        return i;
+    }
+
+    private void copiarCelda(int celda, int base, int[] indices, int[] xs, int[] ys, byte[] hps, int i) {
+        indices[i] = base + celda;
+        xs[i] = x + (celda % columnas) * CELDA;
+        ys[i] = y + (celda / columnas) * CELDA;
+        hps[i] = hp[celda];
     }
-    
-    private static class Block {
-        int x, y, w, h, hp;
-        Block(int x, int y, int w, int h, int hp) { this.x = x; this.y = y; this.w = w; this.h = h; this.hp = hp; }
+
+    /**
+     * Posición en los cambios pendientes del primero posterior a una versión, o un
+     * valor negativo si la lista no tiene todos los cambios posteriores a ella.
+     */
+    private int primerCambioDesde(int desdeVersion) {
+        return cantidadCambiadas - (version - desdeVersion);
     }
-}
 
+    /** Indica si el k-ésimo cambio pendiente es el último de su celda, para no repetirla */
+    private boolean esUltimoCambio(int k) {
+        return versionCelda[celdasCambiadas[k]] == version - cantidadCambiadas + 1 + k;
+    }
+}
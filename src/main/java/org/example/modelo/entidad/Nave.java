@@ -1,7 +1,5 @@
 package org.example.modelo.entidad;
 
-import java.awt.*;
-
 /**
  * Clase abstracta que representa una nave genérica en el juego.
  * 
@@ -9,11 +7,11 @@ import java.awt.*;
  * <ul>
  *   <li>Posición y dimensiones</li>
  *   <li>Método para obtener los límites (bounds) para detección de colisiones</li>
- *   <li>Método abstracto para renderizado</li>
+ *   <li>Posición del tick anterior para interpolar el renderizado</li>
  * </ul>
  * 
- * <p>Las clases hijas deben implementar el método render() para definir
- * cómo se dibuja cada tipo de nave.
+ * <p>Las naves no se dibujan a sí mismas: la vista las renderiza a partir de
+ * {@link org.example.modelo.EstadoJuegoDTO}, por lo que el modelo no depende de AWT.
  * 
  * @author LaumanEspanaBarzaghi
  * @version 1.0
@@ -21,28 +19,50 @@ import java.awt.*;
 public abstract class Nave {
     protected double x;
     protected double y;
+    protected double xAnterior;
+    protected double yAnterior;
     protected int width;
     protected int height;
 
     public Nave(double x, double y, int width, int height) {
         this.x = x;
         this.y = y;
+        this.xAnterior = x;
+        this.yAnterior = y;
         this.width = width;
         this.height = height;
     }
 
-    public Rectangle getBounds() {
-        return new Rectangle((int) x, (int) y, width, height);
+    /**
+     * Guarda la posición actual como posición del tick anterior.
+     * Se invoca al comienzo de cada tick para poder interpolar el renderizado.
+     */
+    public void guardarPosicionAnterior() {
+        xAnterior = x;
+        yAnterior = y;
     }
 
-    public abstract void render(Graphics2D g);
+    public AABB getBounds() {
+        return new AABB((int) x, (int) y, width, height);
+    }
 
     public double getX() { return x; }
     public double getY() { return y; }
+    public double getXAnterior() { return xAnterior; }
+    public double getYAnterior() { return yAnterior; }
     public int getWidth() { return width; }
     public int getHeight() { return height; }
     
     protected void setX(double x) { this.x = x; }
     protected void setY(double y) { this.y = y; }
+
+    /**
+     * Mueve la nave horizontalmente sin interpolar desde la posición anterior
+     * (por ejemplo, al reubicar al jugador tras recibir un impacto).
+     */
+    protected void reposicionarX(double x) {
+        this.x = x;
+        this.xAnterior = x;
+    }
 }
 
@@ -0,0 +1,238 @@
+package org.example.modelo.entidad;
+
+import java.util.Arrays;
+
+/**
+ * Formación de enemigos modelada como un cuerpo rígido: una grilla fija de posiciones
+ * (slots) que se desplaza en bloque a partir de un único origen.
+ *
+ * <p>La posición de cada enemigo es {@code origen + desplazamiento del slot}, por lo que
+ * mover la formación completa cuesta O(1) sin importar cuántos enemigos tenga. Los slots
+ * se numeran fila por fila ({@code slot = fila * columnas + columna}), en el mismo orden
+ * en que se crean los enemigos.
+ *
+ * <p>Para conocer los bordes sin recorrer a todos los enemigos se mantiene la cantidad
+ * de enemigos vivos por columna y por fila. Las columnas extremas con enemigos vivos
+ * sólo se recalculan cuando muere un enemigo.
+ *
+ * <p>También se mantiene, por columna, la fila del enemigo vivo más bajo (el único que
+ * puede disparar sin atravesar a sus compañeros) y una lista compacta de las columnas
+ * que todavía tienen enemigos, para elegir un tirador en O(1).
+ *
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ */
+public class RejillaFormacion {
+    private final int columnas;
+    private final int filas;
+    private final double separacionX;
+    private final double separacionY;
+    private final int anchoNave;
+    private final int altoNave;
+
+    private double origenX;
+    private double origenY;
+    private double origenXAnterior;
+    private double origenYAnterior;
+
+    private final boolean[] vivo;
+    private final int[] vivosPorColumna;
+    private final int[] vivosPorFila;
+    private int vivos;
+    private int columnaIzquierda;
+    private int columnaDerecha;
+
+    /** Fila del enemigo vivo más bajo de cada columna, o -1 si la columna está vacía */
+    private final int[] filaInferior;
+    /** Columnas con enemigos vivos en [0, cantidadColumnasVivas), sin orden particular */
+    private final int[] columnasVivas;
+    /** Posición de cada columna dentro de columnasVivas */
+    private final int[] posicionColumnaViva;
+    private int cantidadColumnasVivas;
+
+    /**
+     * Crea una formación completa, con todos los slots ocupados.
+     *
+     * @param columnas Cantidad de columnas
+     * @param filas Cantidad de filas
+     * @param origenX Coordenada x del slot (0, 0)
+     * @param origenY Coordenada y del slot (0, 0)
+     * @param separacionX Distancia horizontal entre columnas
+     * @param separacionY Distancia vertical entre filas
+     * @param anchoNave Ancho de cada nave enemiga
+     * @param altoNave Alto de cada nave enemiga
+     */
+    public RejillaFormacion(int columnas, int filas, double origenX, double origenY,
+                            double separacionX, double separacionY, int anchoNave, int altoNave) {
+        if (columnas < 0 || filas < 0) {
+            throw new IllegalArgumentException("Dimensiones de formación inválidas: " + columnas + "x" + filas);
+        }
+        if (separacionX <= 0 || separacionY <= 0) {
+            throw new IllegalArgumentException("La separación entre slots debe ser positiva");
+        }
+        this.columnas = columnas;
+        this.filas = filas;
+        this.separacionX = separacionX;
+        this.separacionY = separacionY;
+        this.anchoNave = anchoNave;
+        this.altoNave = altoNave;
+
+        this.vivo = new boolean[columnas * filas];
+        this.vivosPorColumna = new int[columnas];
+        this.vivosPorFila = new int[filas];
+        this.filaInferior = new int[columnas];
+        this.columnasVivas = new int[columnas];
+        this.posicionColumnaViva = new int[columnas];
+        reiniciar(origenX, origenY);
+    }
+
+    /**
+     * Vuelve a ocupar todos los slots y ubica la formación en el origen indicado, sin
+     * crear objetos.
+     *
+     * @param origenX Coordenada x del slot (0, 0)
+     * @param origenY Coordenada y del slot (0, 0)
+     */
+    public void reiniciar(double origenX, double origenY) {
+        this.origenX = origenX;
+        this.origenY = origenY;
+        this.origenXAnterior = origenX;
+        this.origenYAnterior = origenY;
+
+        Arrays.fill(vivo, true);
+        Arrays.fill(vivosPorColumna, filas);
+        Arrays.fill(vivosPorFila, columnas);
+        this.vivos = columnas * filas;
+        this.columnaIzquierda = 0;
+        this.columnaDerecha = columnas - 1;
+
+        Arrays.fill(filaInferior, filas - 1);
+        for (int c = 0; c < columnas; c++) {
+            columnasVivas[c] = c;
+            posicionColumnaViva[c] = c;
+        }
+        this.cantidadColumnasVivas = filas > 0 ? columnas : 0;
+    }
+
+    /**
+     * Desplaza la formación completa.
+     */
+    public void desplazar(double dx, double dy) {
+        origenX += dx;
+        origenY += dy;
+    }
+
+    /**
+     * Guarda la posición actual como posición del tick anterior, para interpolar el renderizado.
+     */
+    public void guardarPosicionAnterior() {
+        origenXAnterior = origenX;
+        origenYAnterior = origenY;
+    }
+
+    /**
+     * Coordenada x del borde izquierdo de la columna viva más a la izquierda.
+     * Sólo tiene sentido si quedan enemigos vivos.
+     */
+    public double getBordeIzquierdo() {
+        return origenX + columnaIzquierda * separacionX;
+    }
+
+    /**
+     * Coordenada x del borde derecho de la columna viva más a la derecha.
+     * Sólo tiene sentido si quedan enemigos vivos.
+     */
+    public double getBordeDerecho() {
+        return origenX + columnaDerecha * separacionX + anchoNave;
+    }
+
+    /**
+     * Elimina al enemigo de un slot y actualiza los contadores y bordes.
+     *
+     * @param slot Slot de un enemigo vivo
+     */
+    public void eliminar(int slot) {
+        if (!vivo[slot]) return;
+        vivo[slot] = false;
+        vivos--;
+        int columna = slot % columnas;
+        int fila = slot / columnas;
+        vivosPorColumna[columna]--;
+        vivosPorFila[fila]--;
+        actualizarFilaInferior(columna, fila);
+        if (vivos == 0) return;
+        while (vivosPorColumna[columnaIzquierda] == 0) columnaIzquierda++;
+        while (vivosPorColumna[columnaDerecha] == 0) columnaDerecha--;
+    }
+
+    private void actualizarFilaInferior(int columna, int filaEliminada) {
+        if (filaInferior[columna] != filaEliminada) return;
+        int f = filaEliminada - 1;
+        while (f >= 0 && !vivo[f * columnas + columna]) f--;
+        filaInferior[columna] = f;
+        if (f < 0) {
+            // Columna vacía: quitarla de la lista moviendo la última a su lugar
+            int posicion = posicionColumnaViva[columna];
+            int ultima = columnasVivas[--cantidadColumnasVivas];
+            columnasVivas[posicion] = ultima;
+            posicionColumnaViva[ultima] = posicion;
+        }
+    }
+
+    /**
+     * Obtiene el slot del enemigo vivo más bajo de una de las columnas con enemigos.
+     *
+     * @param indice Índice entre 0 y {@code getCantidadColumnasVivas() - 1}
+     * @return Slot del tirador de esa columna
+     */
+    public int getSlotTirador(int indice) {
+        int columna = columnasVivas[indice];
+        return filaInferior[columna] * columnas + columna;
+    }
+
+    public int getCantidadColumnasVivas() { return cantidadColumnasVivas; }
+
+    /**
+     * Busca al enemigo vivo que recibe un impacto en el área indicada, traduciendo las
+     * coordenadas del mundo a columnas y filas de la formación.
+     *
+     * <p>Si el área toca a varios enemigos devuelve el de mayor slot, igual que el
+     * recorrido inverso de la lista de enemigos que se usaba antes.
+     *
+     * @return Slot del enemigo impactado, o -1 si no hay ninguno
+     */
+    public int buscarImpacto(int x, int y, int ancho, int alto) {
+        if (vivos == 0 || ancho <= 0 || alto <= 0) return -1;
+        // Rango candidato con un slot de margen; la prueba exacta usa las mismas
+        // coordenadas truncadas que el resto de las colisiones
+        int c0 = Math.max(0, (int) Math.floor((x - origenX - anchoNave) / separacionX));
+        int c1 = Math.min(columnas - 1, (int) Math.floor((x + ancho - origenX) / separacionX));
+        int f0 = Math.max(0, (int) Math.floor((y - origenY - altoNave) / separacionY));
+        int f1 = Math.min(filas - 1, (int) Math.floor((y + alto - origenY) / separacionY));
+        for (int f = f1; f >= f0; f--) {
+            if (vivosPorFila[f] == 0) continue;
+            int ey = (int) (origenY + f * separacionY);
+            for (int c = c1; c >= c0; c--) {
+                int slot = f * columnas + c;
+                if (vivo[slot] && AABB.intersectan(x, y, ancho, alto,
+                        (int) (origenX + c * separacionX), ey, anchoNave, altoNave)) {
+                    return slot;
+                }
+            }
+        }
+        return -1;
+    }
+
+    public boolean estaVivo(int slot) { return vivo[slot]; }
+    public int getVivos() { return vivos; }
+    public int getCantidadSlots() { return vivo.length; }
+    public int getColumnas() { return columnas; }
+    public int getFilas() { return filas; }
+    public int getAnchoNave() { return anchoNave; }
+    public int getAltoNave() { return altoNave; }
+
+    public double getX(int slot) { return origenX + (slot % columnas) * separacionX; }
+    public double getY(int slot) { return origenY + (slot / columnas) * separacionY; }
+    public double getXAnterior(int slot) { return origenXAnterior + (slot % columnas) * separacionX; }
+    public double getYAnterior(int slot) { return origenYAnterior + (slot / columnas) * separacionY; }
+}
@@ -3,7 +3,6 @@ package org.example.modelo.entidad;
 import org.example.modelo.JugadorEnJuego;
 import org.example.modelo.Juego;
 
-import java.awt.*;
 import java.util.List;
 
 /**
@@ -22,21 +21,41 @@ import java.util.List;
  * @version 1.0
  */
 public class ResolverColisiones {
-    public static void resolver(List<Proyectil> proyectiles,
-                                List<NaveEnemiga> enemigos,
+    /**
+     * Resuelve las colisiones del tick usando una grilla de muros y la propia formación
+     * como fase amplia.
+     * 
+     * <p>Antes de comparar, reconstruye la grilla de muros con sus límites actuales; los
+     * enemigos no pasan por la grilla, se ubican traduciendo las coordenadas del
+     * proyectil a slots de la formación. Así cada proyectil sólo se prueba contra lo que tiene cerca. Se respetan
+     * las mismas reglas que la comparación exhaustiva: los proyectiles se procesan del
+     * último índice al primero, el primer muro (en orden de lista) que recibe el impacto
+     * detiene al proyectil, y si un proyectil toca varios enemigos se elimina el de mayor slot.
+     * 
+     * @param grillaMuros Grilla reutilizable para indexar a los muros
+     */
+    public static void resolver(AlmacenProyectiles proyectiles,
+                                RejillaFormacion formacion,
                                 List<MuroEnergia> muros,
                                 NaveJugador jugador,
-                                JugadorEnJuego estadoJugador) {
-        for (int i = proyectiles.size() - 1; i >= 0; i--) {
-            Proyectil p = proyectiles.get(i);
-            Rectangle pb = p.getBounds();
+                                JugadorEnJuego estadoJugador,
+                                GrillaEspacial grillaMuros) {
+        indexarMuros(muros, grillaMuros);
+        final int pw = AlmacenProyectiles.ANCHO;
+        final int ph = AlmacenProyectiles.ALTO;
+
+        // Recorrido inverso: eliminar el proyectil i trae al último, que ya fue procesado
+        for (int i = proyectiles.getCantidad() - 1; i >= 0; i--) {
+            int px = (int) proyectiles.getX(i);
+            int py = (int) proyectiles.getY(i);
 
             boolean eliminado = false;
 
             // Shields
-            for (MuroEnergia m : muros) {
-                if (m.hit(pb)) {
-                    proyectiles.remove(i);
+            int candidatos = grillaMuros.consultar(px, py, pw, ph);
+            for (int k = 0; k < candidatos; k++) {
+                if (muros.get(grillaMuros.getCandidato(k)).hit(px, py, pw, ph)) {
+                    proyectiles.eliminar(i);
                     eliminado = true;
                     break;
                 }
@@ -44,25 +63,31 @@ public class ResolverColisiones {
             if (eliminado) continue;
 
             // Colisiones con enemigos
-            if (p.isFromPlayer()) {
-                for (int e = enemigos.size() - 1; e >= 0; e--) {
-                    if (pb.intersects(enemigos.get(e).getBounds())) {
-                        enemigos.remove(e);
-                        proyectiles.remove(i);
-                        estadoJugador.agregarPuntos(10);
-                        eliminado = true;
-                        break;
-                    }
+            if (proyectiles.isDelJugador(i)) {
+                int slot = formacion.buscarImpacto(px, py, pw, ph);
+                if (slot >= 0) {
+                    formacion.eliminar(slot);
+                    proyectiles.eliminar(i);
+                    estadoJugador.agregarPuntos(10);
                 }
             } else { // Colisiones con jugador
-                if (pb.intersects(jugador.getBounds())) {
+                if (AABB.intersectan(px, py, pw, ph,
+                        (int) jugador.getX(), (int) jugador.getY(), jugador.getWidth(), jugador.getHeight())) {
                     estadoJugador.perderVida();
-                    proyectiles.remove(i);
+                    proyectiles.eliminar(i);
                     // reset player position simple
-                    jugador.setX(Juego.WIDTH / 2.0 - jugador.getWidth() / 2.0);
+                    jugador.reposicionarX(Juego.WIDTH / 2.0 - jugador.getWidth() / 2.0);
                 }
             }
         }
     }
-}
 
+    private static void indexarMuros(List<MuroEnergia> muros, GrillaEspacial grilla) {
+        grilla.comenzar(muros.size());
+        for (int m = 0; m < muros.size(); m++) {
+            AABB b = muros.get(m).getBounds();
+            grilla.agregar(m, b.getX(), b.getY(), b.getWidth(), b.getHeight());
+        }
+        grilla.construir();
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.modelo.entrada;
+
+/**
+ * Acciones que el jugador puede realizar durante la partida.
+ * 
+ * <p>El modelo trabaja con acciones y no con códigos de tecla, de modo que no depende
+ * de AWT. La vista es la encargada de traducir las teclas físicas a estas acciones.
+ * 
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ */
+public enum Accion {
+    IZQUIERDA,
+    DERECHA,
+    DISPARAR;
+
+    /**
+     * Obtiene la máscara de bits que representa a la acción dentro de {@link EstadoEntrada}.
+     * 
+     * @return Máscara con un único bit encendido
+     */
+    int mascara() {
+        return 1 << ordinal();
+    }
+}
@@ -0,0 +1,127 @@
+package org.example.modelo.entrada;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cola circular sin bloqueos de eventos de entrada, para un único productor (el hilo
+ * de eventos de la vista) y un único consumidor (el bucle de juego).
+ *
+ * <p>Cada evento es una terna primitiva (acción, presionada o soltada, instante en
+ * nanosegundos) guardada en arreglos paralelos, así que publicar y consumir no crea
+ * objetos ni usa tablas hash. A diferencia de consultar un estado "presionada ahora",
+ * la cola conserva cada pulsación, aunque se presione y se suelte entre dos ticks.
+ *
+ * <p>Los índices de escritura y lectura sólo los avanza su dueño y se publican con
+ * semántica de liberación, de modo que el consumidor siempre ve eventos completos.
+ * Si la cola se llena (el consumidor dejó de leer), los eventos nuevos se descartan y
+ * se cuentan.
+ *
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ */
+public class AnilloEntrada {
+    private static final Accion[] ACCIONES = Accion.values();
+
+    private final int mascara;
+    private final byte[] acciones;
+    private final boolean[] presionadas;
+    private final long[] instantes;
+
+    /** Próxima posición a escribir; sólo la avanza el productor */
+    private final AtomicLong escritura = new AtomicLong();
+    /** Próxima posición a leer; sólo la avanza el consumidor */
+    private final AtomicLong lectura = new AtomicLong();
+    private final AtomicLong descartados = new AtomicLong();
+
+    public AnilloEntrada() {
+        this(256);
+    }
+
+    /**
+     * @param capacidad Cantidad de eventos sin consumir que admite; debe ser potencia de 2
+     */
+    public AnilloEntrada(int capacidad) {
+        if (capacidad <= 0 || Integer.bitCount(capacidad) != 1) {
+            throw new IllegalArgumentException("La capacidad debe ser una potencia de 2: " + capacidad);
+        }
+        this.mascara = capacidad - 1;
+        this.acciones = new byte[capacidad];
+        this.presionadas = new boolean[capacidad];
+        this.instantes = new long[capacidad];
+    }
+
+    /**
+     * Publica un evento. Sólo debe llamarse desde el hilo productor.
+     *
+     * @param accion Acción que cambió
+     * @param presionada true si la acción se activó, false si se desactivó
+     * @param instante Momento del evento, según {@link System#nanoTime()}
+     * @return false si la cola estaba llena y el evento se descartó
+     */
+    public boolean publicar(Accion accion, boolean presionada, long instante) {
+        long posicion = escritura.get();
+        if (posicion - lectura.get() > mascara) {
+            descartados.incrementAndGet();
+            return false;
+        }
+        int i = (int) posicion & mascara;
+        acciones[i] = (byte) accion.ordinal();
+        presionadas[i] = presionada;
+        instantes[i] = instante;
+        escritura.lazySet(posicion + 1);
+        return true;
+    }
+
+    /**
+     * Cantidad de eventos publicados que el consumidor todavía no tomó.
+     * Sólo debe llamarse desde el hilo consumidor.
+     */
+    public int getDisponibles() {
+        return (int) (escritura.get() - lectura.get());
+    }
+
+    /**
+     * Acción del k-ésimo evento disponible, sin consumirlo.
+     *
+     * @param k Índice entre 0 y {@code getDisponibles() - 1}
+     */
+    public Accion getAccion(int k) {
+        return ACCIONES[acciones[indice(k)]];
+    }
+
+    /** Indica si el k-ésimo evento disponible activa (true) o desactiva la acción */
+    public boolean isPresionada(int k) {
+        return presionadas[indice(k)];
+    }
+
+    /**
+     * Identificador del k-ésimo evento disponible: su número de orden en el anillo,
+     * empezando en 1.
+     */
+    public long getId(int k) {
+        return lectura.get() + k + 1;
+    }
+
+    /** Instante en nanosegundos del k-ésimo evento disponible */
+    public long getInstante(int k) {
+        return instantes[indice(k)];
+    }
+
+    /**
+     * Marca como consumidos los primeros {@code cantidad} eventos disponibles, liberando
+     * su lugar para el productor.
+     */
+    public void consumir(int cantidad) {
+        if (cantidad <= 0) return;
+        lectura.lazySet(lectura.get() + cantidad);
+    }
+
+    /** Eventos descartados porque la cola estaba llena */
+    public long getDescartados() {
+        return descartados.get();
+    }
+
+    private int indice(int k) {
+        return (int) (lectura.get() + k) & mascara;
+    }
+}
@@ -0,0 +1,132 @@
+package org.example.modelo.entrada;
+
+import org.example.metricas.HistogramaLatencia;
+
+/**
+ * Estado de las acciones del jugador en el tick actual, representado como conjuntos de bits.
+ *
+ * <p>Pertenece al bucle de juego: al comienzo de cada tick se vuelcan en él los eventos
+ * de un {@link AnilloEntrada} ocurridos hasta el final de ese tick, y luego el modelo lo
+ * consulta. Además de las acciones mantenidas, registra las que se presionaron durante
+ * el tick, de modo que una pulsación que empieza y termina entre dos ticks igual se
+ * ve en uno. La consulta es una operación de bits, sin boxing ni búsquedas en tablas hash.
+ *
+ * <p>También recuerda el identificador y el instante del último evento aplicado, para
+ * que el modelo los incluya en las instantáneas y la vista pueda medir cuánto tarda una
+ * pulsación en llegar a la pantalla.
+ *
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ */
+public class EstadoEntrada {
+    /** Acciones mantenidas al final de los eventos ya volcados */
+    private int activas;
+    /** Acciones presionadas al menos una vez durante el tick actual */
+    private int presionadasEnTick;
+    /** Identificador del último evento aplicado, o 0 si todavía no hubo ninguno */
+    private long ultimoEvento;
+    private long instanteUltimoEvento;
+    /** Si no es null, recibe la espera de cada evento hasta el tick que lo aplica */
+    private final HistogramaLatencia esperaEventos;
+
+    public EstadoEntrada() {
+        this(null);
+    }
+
+    /**
+     * @param esperaEventos Histograma donde registrar, por cada evento, el tiempo desde
+     *                      que ocurrió hasta que comenzó el tick que lo aplica; puede ser null
+     */
+    public EstadoEntrada(HistogramaLatencia esperaEventos) {
+        this.esperaEventos = esperaEventos;
+    }
+
+    /**
+     * Comienza un tick: olvida las pulsaciones del tick anterior y aplica, en orden, los
+     * eventos del anillo con instante hasta {@code hastaNanos}. Los posteriores quedan en
+     * el anillo para los ticks siguientes.
+     *
+     * @param anillo Cola de eventos publicada por la vista
+     * @param hastaNanos Instante, según {@link System#nanoTime()}, en que termina el tick
+     */
+    public void comenzarTick(AnilloEntrada anillo, long hastaNanos) {
+        presionadasEnTick = 0;
+        int disponibles = anillo.getDisponibles();
+        int aplicados = 0;
+        // Los instantes crecen en el orden de publicación
+        while (aplicados < disponibles && anillo.getInstante(aplicados) - hastaNanos <= 0) {
+            Accion accion = anillo.getAccion(aplicados);
+            if (anillo.isPresionada(aplicados)) {
+                presionadasEnTick |= accion.mascara();
+            }
+            establecer(accion, anillo.isPresionada(aplicados));
+            aplicados++;
+        }
+        if (aplicados > 0) {
+            ultimoEvento = anillo.getId(aplicados - 1);
+            instanteUltimoEvento = anillo.getInstante(aplicados - 1);
+            if (esperaEventos != null) {
+                long ahora = System.nanoTime();
+                for (int k = 0; k < aplicados; k++) {
+                    esperaEventos.registrar(ahora - anillo.getInstante(k));
+                }
+            }
+        }
+        anillo.consumir(aplicados);
+    }
+
+    /** Identificador del último evento aplicado, o 0 si todavía no hubo ninguno */
+    public long getUltimoEvento() {
+        return ultimoEvento;
+    }
+
+    /** Instante, según {@link System#nanoTime()}, del último evento aplicado */
+    public long getInstanteUltimoEvento() {
+        return instanteUltimoEvento;
+    }
+
+    /**
+     * Verifica si una acción está activa en este tick: mantenida, o presionada durante el
+     * tick aunque ya se haya soltado.
+     *
+     * @param accion Acción a consultar
+     * @return true si la acción está activa
+     */
+    public boolean estaActiva(Accion accion) {
+        return ((activas | presionadasEnTick) & accion.mascara()) != 0;
+    }
+
+    /**
+     * Verifica si una acción se presionó durante este tick.
+     *
+     * @param accion Acción a consultar
+     * @return true si hubo al menos una pulsación de la acción en este tick
+     */
+    public boolean fuePresionada(Accion accion) {
+        return (presionadasEnTick & accion.mascara()) != 0;
+    }
+
+    /**
+     * Activa o desactiva una acción mantenida.
+     *
+     * @param accion Acción a modificar
+     * @param activa true para activarla, false para desactivarla
+     */
+    public void establecer(Accion accion, boolean activa) {
+        if (activa) {
+            activas |= accion.mascara();
+        } else {
+            activas &= ~accion.mascara();
+        }
+    }
+
+    /**
+     * Desactiva todas las acciones.
+     */
+    public void limpiar() {
+        activas = 0;
+        presionadasEnTick = 0;
+        ultimoEvento = 0;
+        instanteUltimoEvento = 0;
+    }
+}
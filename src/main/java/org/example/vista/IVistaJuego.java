@@ -1,8 +1,10 @@
 package org.example.vista;
 
+import org.example.metricas.MetricasJuego;
+import org.example.metricas.MetricasLatencia;
 import org.example.modelo.EstadoJuegoDTO;
+import org.example.modelo.entrada.AnilloEntrada;
 import java.awt.Component;
-import java.util.Set;
 
 /**
  * Interfaz que define los métodos necesarios para la vista del juego.
@@ -13,11 +15,12 @@ import java.util.Set;
  */
 public interface IVistaJuego {
     /**
-     * Obtiene el conjunto de teclas actualmente presionadas.
+     * Obtiene la cola de eventos de las acciones del jugador, ya traducidas desde el teclado.
+     * La vista es el único productor y el bucle de juego el único consumidor.
      * 
-     * @return Conjunto de códigos de teclas presionadas
+     * @return Anillo de entrada que consume el bucle de juego
      */
-    Set<Integer> getPressedKeys();
+    AnilloEntrada getEntrada();
     
     /**
      * Establece el proveedor de estado del juego.
@@ -29,7 +32,23 @@ public interface IVistaJuego {
     void setProveedorEstado(java.util.function.Supplier<EstadoJuegoDTO> proveedorEstado);
     
     /**
-     * Solicita que la vista se repinte.
+     * Establece dónde registrar la latencia entre que se arma cada instantánea (y la
+     * última pulsación que refleja) y que el fotograma que la muestra llega a la pantalla.
+     * 
+     * @param metricas Métricas de latencia, o null para no medirla
+     */
+    void setMetricasLatencia(MetricasLatencia metricas);
+    
+    /**
+     * Establece dónde registrar la duración del dibujo de cada fotograma.
+     * 
+     * @param metricas Métricas del juego, o null para no medirla
+     */
+    void setMetricasJuego(MetricasJuego metricas);
+    
+    /**
+     * Solicita que la vista se repinte con el último estado disponible.
+     * Puede llamarse desde cualquier hilo; cada implementación decide en qué hilo dibuja.
      */
     void repaint();
     
@@ -1,6 +1,7 @@
 package org.example.vista;
 
 import java.awt.Component;
+import java.util.function.Consumer;
 
 /**
  * Interfaz que define los métodos necesarios para la ventana principal de la aplicación.
@@ -17,6 +18,14 @@ public interface IVistaPrincipal {
      */
     void setContenido(Component component);
     
+    /**
+     * Agrega un listener que se notifica, en el hilo de eventos, cada vez que la ventana
+     * pasa a estar activa (con foco y sin minimizar) o deja de estarlo.
+     * 
+     * @param listener Recibe true cuando la ventana se activa y false cuando se desactiva
+     */
+    void agregarListenerActividad(Consumer<Boolean> listener);
+    
     /**
      * Hace visible la ventana.
      * 
@@ -38,11 +38,18 @@ public class VistaFactory {
     /**
      * Crea una nueva instancia de la vista del juego.
      * 
+     * <p>Por defecto la vista se dibuja desde el hilo de eventos de Swing. Con la
+     * propiedad de sistema {@code invaders.renderActivo=true} se usa en cambio
+     * renderizado activo, desde un hilo propio.
+     * 
      * @param ancho Ancho del panel de juego
      * @param alto Alto del panel de juego
      * @return Instancia de IVistaJuego
      */
     public static IVistaJuego crearVistaJuego(int ancho, int alto) {
+        if (Boolean.getBoolean("invaders.renderActivo")) {
+            return new VistaJuegoActivaImpl(ancho, alto);
+        }
         return new VistaJuegoImpl(ancho, alto);
     }
     
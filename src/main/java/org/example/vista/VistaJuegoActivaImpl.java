@@ -0,0 +1,61 @@
+package org.example.vista;
+
+import org.example.app.GameCanvas;
+
+import java.awt.Component;
+import java.util.function.Supplier;
+import org.example.metricas.MetricasJuego;
+import org.example.metricas.MetricasLatencia;
+import org.example.modelo.EstadoJuegoDTO;
+import org.example.modelo.entrada.AnilloEntrada;
+
+/**
+ * Implementación de IVistaJuego con renderizado activo, que envuelve GameCanvas.
+ * Cada repintado despierta al hilo de renderizado del lienzo en lugar de pasar por
+ * el hilo de eventos.
+ *
+ * @author LaumanEspanaBarzaghi
+ * @version 1.0
+ */
+class VistaJuegoActivaImpl implements IVistaJuego {
+    private final GameCanvas gameCanvas;
+
+    VistaJuegoActivaImpl(int ancho, int alto) {
+        this.gameCanvas = new GameCanvas(ancho, alto);
+    }
+
+    @Override
+    public AnilloEntrada getEntrada() {
+        return gameCanvas.getEntrada();
+    }
+
+    @Override
+    public void setProveedorEstado(Supplier<EstadoJuegoDTO> proveedorEstado) {
+        gameCanvas.setProveedorEstado(proveedorEstado);
+    }
+
+    @Override
+    public void setMetricasLatencia(MetricasLatencia metricas) {
+        gameCanvas.setMetricasLatencia(metricas);
+    }
+    
+    @Override
+    public void setMetricasJuego(MetricasJuego metricas) {
+        gameCanvas.setMetricasJuego(metricas);
+    }
+
+    @Override
+    public void repaint() {
+        gameCanvas.solicitarFotograma();
+    }
+
+    @Override
+    public void requestFocusInWindow() {
+        gameCanvas.requestFocusInWindow();
+    }
+
+    @Override
+    public Component getComponent() {
+        return gameCanvas;
+    }
+}
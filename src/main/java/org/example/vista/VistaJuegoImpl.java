@@ -3,9 +3,11 @@ package org.example.vista;
 import org.example.app.GamePanel;
 
 import java.awt.Component;
-import java.util.Set;
 import java.util.function.Supplier;
+import org.example.metricas.MetricasJuego;
+import org.example.metricas.MetricasLatencia;
 import org.example.modelo.EstadoJuegoDTO;
+import org.example.modelo.entrada.AnilloEntrada;
 
 /**
  * Implementación concreta de IVistaJuego que envuelve GamePanel.
@@ -21,8 +23,8 @@ class VistaJuegoImpl implements IVistaJuego {
     }
     
     @Override
-    public Set<Integer> getPressedKeys() {
-        return gamePanel.getPressedKeys();
+    public AnilloEntrada getEntrada() {
+        return gamePanel.getEntrada();
     }
     
     @Override
@@ -30,9 +32,19 @@ class VistaJuegoImpl implements IVistaJuego {
         gamePanel.setProveedorEstado(proveedorEstado);
     }
     
+    @Override
+    public void setMetricasLatencia(MetricasLatencia metricas) {
+        gamePanel.setMetricasLatencia(metricas);
+    }
+    
+    @Override
+    public void setMetricasJuego(MetricasJuego metricas) {
+        gamePanel.setMetricasJuego(metricas);
+    }
+    
     @Override
     public void repaint() {
-        gamePanel.repaint();
+        gamePanel.solicitarFotograma();
     }
     
     @Override
@@ -3,6 +3,10 @@ package org.example.vista;
 import org.example.app.GameWindow;
 
 import java.awt.Component;
+import java.awt.Frame;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.util.function.Consumer;
 
 /**
  * Implementación concreta de IVistaPrincipal que envuelve GameWindow.
@@ -25,6 +29,32 @@ class VistaPrincipalImpl implements IVistaPrincipal {
         window.repaint();
     }
     
+    @Override
+    public void agregarListenerActividad(Consumer<Boolean> listener) {
+        WindowAdapter adaptador = new WindowAdapter() {
+            private boolean activa = true;
+
+            @Override
+            public void windowGainedFocus(WindowEvent e) { actualizar(); }
+            @Override
+            public void windowLostFocus(WindowEvent e) { actualizar(); }
+            @Override
+            public void windowIconified(WindowEvent e) { actualizar(); }
+            @Override
+            public void windowDeiconified(WindowEvent e) { actualizar(); }
+
+            private void actualizar() {
+                boolean ahora = window.isFocused() && (window.getExtendedState() & Frame.ICONIFIED) == 0;
+                if (ahora != activa) {
+                    activa = ahora;
+                    listener.accept(ahora);
+                }
+            }
+        };
+        window.addWindowListener(adaptador);
+        window.addWindowFocusListener(adaptador);
+    }
+    
     @Override
     public void setVisible(boolean visible) {
         window.setVisible(visible);